@@ -45,6 +45,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // 공모전 관련 URI
             new AntPathRequestMatcher("/api/contests/search"),
+            new AntPathRequestMatcher("/api/contests/search/suggestions"),
             new AntPathRequestMatcher("/api/contests/categories"),
             new AntPathRequestMatcher("/api/contests/detail"),
             new AntPathRequestMatcher("/api/contests/main-recommendation"),
@@ -0,0 +1,131 @@
+package com.kusithm.meetupd.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 값 하나를 캐싱하고, TTL 이 지나면 기존 값을 그대로 응답하면서 백그라운드에서 한 번만 다시 불러오는 캐시
+ * 값이 없을 때 동시에 들어온 요청은 하나만 loader 를 호출하고 나머지는 그 결과를 기다린다.
+ */
+@Slf4j
+public class StaleWhileRevalidateCache<T> {
+
+    private final String name;
+    private final Duration ttl;
+    private final Supplier<T> loader;
+    private final ExecutorService refreshExecutor;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+
+    private final Object loadLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Entry<T> entry;
+
+    public StaleWhileRevalidateCache(String name, Duration ttl, Supplier<T> loader, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.ttl = ttl;
+        this.loader = loader;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wanteam-cache-refresh-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hitCounter = createCounter(meterRegistry, "cache.requests", "result", "hit");
+        this.missCounter = createCounter(meterRegistry, "cache.requests", "result", "miss");
+        this.refreshSuccessCounter = createCounter(meterRegistry, "cache.refresh", "result", "success");
+        this.refreshFailureCounter = createCounter(meterRegistry, "cache.refresh", "result", "failure");
+    }
+
+    public T get() {
+        Entry<T> current = entry;
+        if (current == null) {
+            missCounter.increment();
+            return loadOnMiss();
+        }
+        hitCounter.increment();
+        if (isStale(current)) {
+            triggerRefresh();
+        }
+        return current.value;
+    }
+
+    // 데이터가 바뀐 경우 호출, 다음 응답까지는 기존 값을 주고 백그라운드에서 다시 불러옴
+    public void invalidate() {
+        version.incrementAndGet();
+        if (entry != null) {
+            triggerRefresh();
+        }
+    }
+
+    private T loadOnMiss() {
+        synchronized (loadLock) {
+            Entry<T> current = entry;
+            if (current == null) {
+                current = load();
+                entry = current;
+            }
+            return current.value;
+        }
+    }
+
+    private void triggerRefresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(this::refresh);
+        } catch (RuntimeException e) {
+            refreshing.set(false);
+            throw e;
+        }
+    }
+
+    // 불러오는 도중 invalidate 된 경우 한 번 더 불러옴
+    private void refresh() {
+        try {
+            Entry<T> loaded;
+            do {
+                loaded = load();
+                entry = loaded;
+            } while (loaded.version != version.get());
+            refreshSuccessCounter.increment();
+        } catch (Exception e) {
+            refreshFailureCounter.increment();
+            log.warn("cache refresh failed - {}", name, e);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Entry<T> load() {
+        long loadVersion = version.get();
+        return new Entry<>(loader.get(), System.nanoTime(), loadVersion);
+    }
+
+    private boolean isStale(Entry<T> current) {
+        return current.version != version.get() || System.nanoTime() - current.loadedAt > ttl.toNanos();
+    }
+
+    private Counter createCounter(MeterRegistry meterRegistry, String meterName, String tagKey, String tagValue) {
+        return Counter.builder(meterName)
+                .tag("cache", name)
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+
+    private record Entry<T>(T value, long loadedAt, long version) {
+    }
+}
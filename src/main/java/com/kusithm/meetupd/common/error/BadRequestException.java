@@ -0,0 +1,8 @@
+package com.kusithm.meetupd.common.error;
+
+public class BadRequestException extends ApplicationException {
+
+    public BadRequestException(ErrorCode error) {
+        super(error);
+    }
+}
@@ -11,6 +11,9 @@ public enum ErrorCode {
     /**
      *  400 Bad Request
      */
+    INVALID_PAGE_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    INVALID_PAGE_REQUEST(HttpStatus.BAD_REQUEST, "page 와 size 는 1 이상이어야 합니다."),
+    INVALID_CONTEST_IMPORT_FILE(HttpStatus.BAD_REQUEST, "공모전 파일을 읽을 수 없습니다. JSON lines(.jsonl) 또는 CSV(.csv) 파일인지 확인하세요."),
 
 
     /**
@@ -31,6 +34,7 @@ public enum ErrorCode {
     USER_NOT_APPLY_STATUS(HttpStatus.FORBIDDEN, "팀에 지원 취소를 할 수 없습니다. 유저가 지원자 상태가 아닙니다."),
     USER_ROLE_NOT_CHANGE(HttpStatus.FORBIDDEN, "해당 팀원의 역할을 변경할 수 없습니다. 해당 유저가 지원자 상태가 아닙니다."),
     TEAM_PROGRESS_NOT_RECRUITING(HttpStatus.FORBIDDEN, "해당 팀이 모집 중 상태가 아닙니다."),
+    INVALID_ADMIN_KEY(HttpStatus.FORBIDDEN, "관리자만 실행할 수 있습니다. 관리자 키를 확인하세요."),
 
 
     /**
@@ -61,6 +65,8 @@ public enum ErrorCode {
     ALREADY_USER_APPLY_TEAM(HttpStatus.CONFLICT, "이미 해당 팀에 지원한 유저입니다."),
     USER_NOT_HAVE_AUTHORITY(HttpStatus.CONFLICT, "변경 권한이 없는 유저입니다."),
     ALREADY_USER_APPLY_CONTEST(HttpStatus.CONFLICT, "이미 해당 공모전에 지원한 유저입니다."),
+    TEAM_ALREADY_FULL(HttpStatus.CONFLICT, "해당 팀의 모집 인원이 모두 찼습니다."),
+    CONTEST_IMPORT_IN_PROGRESS(HttpStatus.CONFLICT, "다른 공모전 일괄 등록이 진행 중입니다. 끝난 뒤 다시 시도하세요."),
     /**
      *  500 INTERNAL SERVER ERROR
      */
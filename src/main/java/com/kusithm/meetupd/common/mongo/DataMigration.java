@@ -0,0 +1,30 @@
+package com.kusithm.meetupd.common.mongo;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+// 배포 후 한 번만 실행하는 데이터 보정의 완료 표시, 있으면 다음 배포부터 건너뜀
+@Getter
+@Builder
+@Document(collection = "data_migration")
+public class DataMigration {
+
+    @Id
+    @Field(name = "_id")
+    private String name;    // 보정 이름
+
+    @Field(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static DataMigration completed(String name) {
+        return DataMigration.builder()
+                .name(name)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+}
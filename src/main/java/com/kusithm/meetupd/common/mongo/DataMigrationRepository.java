@@ -0,0 +1,6 @@
+package com.kusithm.meetupd.common.mongo;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface DataMigrationRepository extends MongoRepository<DataMigration, String> {
+}
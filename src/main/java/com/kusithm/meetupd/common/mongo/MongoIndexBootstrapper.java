@@ -0,0 +1,107 @@
+package com.kusithm.meetupd.common.mongo;
+
+import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.review.entity.NonUserReview;
+import com.kusithm.meetupd.domain.review.entity.Review;
+import com.kusithm.meetupd.domain.review.entity.ReviewCommentBucket;
+import com.kusithm.meetupd.domain.review.entity.WaitReview;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.kusithm.meetupd.domain.review.entity.ReviewCommentBucket.BUCKET_SIZE;
+
+/**
+ * 자주 조회되는 Mongo 쿼리의 인덱스를 애플리케이션 시작 시 생성 (이미 같은 인덱스가 있으면 아무 일도 하지 않음)
+ * 쿼리 조건을 추가/변경하면 여기 인덱스와 MongoIndexBootstrapperTest 의 쿼리 목록도 함께 수정
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MongoIndexBootstrapper {
+
+    private static final List<IndexDefinition> INDEXES = List.of(
+            // ReviewRepository.findByUserId, ReviewService 의 user_id 기준 $inc
+            new IndexDefinition(Review.class, new Index()
+                    .on("user_id", Sort.Direction.ASC)
+                    .named("idx_recommendation_user_id")),
+            // WaitReviewRepository.findAllByUserIdAndTeamId, existsByUserId (앞쪽 user_id 만으로도 사용)
+            new IndexDefinition(WaitReview.class, new Index()
+                    .on("user_id", Sort.Direction.ASC)
+                    .on("team_id", Sort.Direction.ASC)
+                    .named("idx_not_upload_review_user_id_team_id")),
+            // NonUserReviewRepository.existsByUserId
+            new IndexDefinition(NonUserReview.class, new Index()
+                    .on("user_id", Sort.Direction.ASC)
+                    .named("idx_non_user_recommend_user_id")),
+            // 한줄평 목록(user_id 의 최신 버킷부터), 한줄평 추가 시 열린 버킷 upsert
+            new IndexDefinition(ReviewCommentBucket.class, new Index()
+                    .on("user_id", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named("idx_review_comment_bucket_user_id_id")),
+            // 유저당 열린 버킷은 하나, 동시에 새 버킷을 만들면 하나는 중복 키로 실패하고 ReviewCommentService 가 다시 시도
+            new IndexDefinition(ReviewCommentBucket.class, new Index()
+                    .on("user_id", Sort.Direction.ASC)
+                    .unique()
+                    .partial(PartialIndexFilter.of(Criteria.where("closed").is(false)))
+                    .named("uk_review_comment_bucket_user_id_open")),
+            // 카탈로그, 메인 추천, 오늘 마감 공모전 조회
+            new IndexDefinition(Contest.class, new Index()
+                    .on("recruit_end", Sort.Direction.ASC)
+                    .named("idx_contest_recruit_end")),
+            // 분야별 모집 중 공모전 조회
+            new IndexDefinition(Contest.class, new Index()
+                    .on("types", Sort.Direction.ASC)
+                    .on("recruit_end", Sort.Direction.ASC)
+                    .named("idx_contest_types_recruit_end")),
+            // 공모전 일괄 등록 시 자연 키 upsert
+            new IndexDefinition(Contest.class, new Index()
+                    .on("title", Sort.Direction.ASC)
+                    .on("company", Sort.Direction.ASC)
+                    .on("recruit_start", Sort.Direction.ASC)
+                    .named("idx_contest_title_company_recruit_start"))
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        closeExtraOpenBuckets();
+        for (IndexDefinition definition : INDEXES) {
+            String indexName = mongoTemplate.indexOps(definition.entityClass()).ensureIndex(definition.index());
+            log.info("mongo index ensured - {}.{}", mongoTemplate.getCollectionName(definition.entityClass()), indexName);
+        }
+    }
+
+    // 유니크 인덱스 전에 만들어진 버킷 정리: 가득 찬 열린 버킷을 닫고, 열린 버킷이 둘 이상인 유저는 가장 최신 버킷만 남김
+    private void closeExtraOpenBuckets() {
+        mongoTemplate.updateMulti(new Query(Criteria.where("closed").is(false).and("count").gte(BUCKET_SIZE)),
+                new Update().set("closed", true), ReviewCommentBucket.class);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("closed").is(false)),
+                Aggregation.group("userId").max("id").as("latestId").count().as("openCount"),
+                Aggregation.match(Criteria.where("openCount").gt(1)));
+        for (Document duplicate : mongoTemplate.aggregate(aggregation, ReviewCommentBucket.class, Document.class)) {
+            mongoTemplate.updateMulti(new Query(Criteria.where("userId").is(duplicate.get("_id"))
+                            .and("closed").is(false)
+                            .and("id").ne(duplicate.get("latestId"))),
+                    new Update().set("closed", true), ReviewCommentBucket.class);
+        }
+    }
+
+    private record IndexDefinition(Class<?> entityClass, Index index) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.kusithm.meetupd.common.redis.lock;
+
+@FunctionalInterface
+public interface LeaseLockTask {
+
+    // lockToken: 락을 얻을 때마다 증가하는 값, RedisLeaseLock.isLatestLockToken 으로 락을 잃었는지 확인할 때 사용
+    void run(long lockToken);
+}
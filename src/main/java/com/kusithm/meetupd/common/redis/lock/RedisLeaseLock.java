@@ -0,0 +1,180 @@
+package com.kusithm.meetupd.common.redis.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 작업을 실행하기 위한 Redis 임대(lease) 락
+ * 작업이 도는 동안 lease 의 1/3 주기로 만료 시간을 연장하고, 락을 얻을 때마다 증가하는 lock token 을 발급한다.
+ * lock token 은 저장소 쓰기에서 검사하는 fencing 이 아니라, 긴 작업이 청크 사이에 락을 잃었는지 확인해 멈추는 용도.
+ * 인스턴스마다 같은 cron 으로 도는 작업은 lockAtLeastFor 동안 락을 유지해 늦게 깨어난 인스턴스가 다시 실행하지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class RedisLeaseLock {
+
+    private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final String TOKEN_KEY_SUFFIX = ":token";
+    private static final long RETRY_INTERVAL_MILLIS = 100;
+
+    // 락이 비어 있을 때만 owner 로 SET 하고 lock token 증가
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+                    "return redis.call('incr', KEYS[2]) " +
+                    "end " +
+                    "return nil", Long.class);
+
+    // 내가 가진 락인 경우에만 연장/해제
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "end " +
+                    "return 0", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "end " +
+                    "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService renewalExecutor;
+
+    public RedisLeaseLock(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wanteam-lease-lock-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 락을 얻지 못하면 바로 false 반환 (다른 인스턴스가 실행 중)
+    public boolean runWithLock(String lockName, Duration leaseTime, LeaseLockTask task) {
+        return runWithLock(lockName, leaseTime, Duration.ZERO, Duration.ZERO, task);
+    }
+
+    // waitTime 동안 재시도 후에도 락을 얻지 못하면 false 반환
+    public boolean runWithLock(String lockName, Duration leaseTime, Duration waitTime, LeaseLockTask task) {
+        return runWithLock(lockName, leaseTime, waitTime, Duration.ZERO, task);
+    }
+
+    // 인스턴스마다 같은 시각에 도는 @Scheduled(cron) 작업용, 작업이 끝나도 lockAtLeastFor 가 지날 때까지 락 유지
+    public boolean runScheduledWithLock(String lockName, Duration leaseTime, Duration lockAtLeastFor, LeaseLockTask task) {
+        return runWithLock(lockName, leaseTime, Duration.ZERO, lockAtLeastFor, task);
+    }
+
+    public boolean runWithLock(String lockName, Duration leaseTime, Duration waitTime, Duration lockAtLeastFor, LeaseLockTask task) {
+        String lockKey = LOCK_KEY_PREFIX + lockName;
+        String owner = UUID.randomUUID().toString();
+        long waitStart = System.nanoTime();
+        Long lockToken = acquire(lockKey, owner, leaseTime, waitTime);
+        recordWait(lockName, waitStart, lockToken != null);
+        if (lockToken == null) {
+            log.info("lease lock not acquired - {}", lockName);
+            return false;
+        }
+
+        long holdStart = System.nanoTime();
+        ScheduledFuture<?> renewal = scheduleRenewal(lockName, lockKey, owner, leaseTime);
+        try {
+            task.run(lockToken);
+            return true;
+        } finally {
+            renewal.cancel(false);
+            releaseOrHold(lockKey, owner, lockAtLeastFor.toMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - holdStart));
+            Timer.builder("redis.lock.hold")
+                    .tag("lock", lockName)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - holdStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 작업 도중 lease 가 만료되어 다른 인스턴스가 락을 새로 얻었는지 확인, 다음 청크를 시작하기 전에 사용
+    // 이미 시작한 쓰기를 막지는 못하므로 청크 단위 작업은 다시 실행해도 같은 결과가 되도록 작성
+    public boolean isLatestLockToken(String lockName, long lockToken) {
+        String latest = redisTemplate.opsForValue().get(LOCK_KEY_PREFIX + lockName + TOKEN_KEY_SUFFIX);
+        return latest != null && Long.parseLong(latest) == lockToken;
+    }
+
+    private Long acquire(String lockKey, String owner, Duration leaseTime, Duration waitTime) {
+        long deadline = System.currentTimeMillis() + waitTime.toMillis();
+        while (true) {
+            Long lockToken = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(lockKey, lockKey + TOKEN_KEY_SUFFIX),
+                    owner, String.valueOf(leaseTime.toMillis()));
+            if (lockToken != null || System.currentTimeMillis() >= deadline) {
+                return lockToken;
+            }
+            try {
+                Thread.sleep(RETRY_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(String lockName, String lockKey, String owner, Duration leaseTime) {
+        long renewalInterval = Math.max(leaseTime.toMillis() / 3, 1);
+        return renewalExecutor.scheduleAtFixedRate(() -> renew(lockName, lockKey, owner, leaseTime),
+                renewalInterval, renewalInterval, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew(String lockName, String lockKey, String owner, Duration leaseTime) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey), owner, String.valueOf(leaseTime.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("lease lock lost - {}", lockName);
+                Counter.builder("redis.lock.lost")
+                        .tag("lock", lockName)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        } catch (Exception e) {
+            log.warn("lease lock renewal failed - {}", lockName, e);
+        }
+    }
+
+    // lockAtLeastFor 가 남아 있으면 해제 대신 남은 시간 뒤에 만료되도록 함 (연장 스크립트로 만료 시간만 변경)
+    private void releaseOrHold(String lockKey, String owner, long remainingHoldMillis) {
+        try {
+            if (remainingHoldMillis > 0) {
+                redisTemplate.execute(RENEW_SCRIPT, List.of(lockKey), owner, String.valueOf(remainingHoldMillis));
+                return;
+            }
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), owner);
+        } catch (Exception e) {
+            log.warn("lease lock release failed - {}, expires after lease", lockKey, e);
+        }
+    }
+
+    private void recordWait(String lockName, long waitStart, boolean acquired) {
+        Timer.builder("redis.lock.wait")
+                .tag("lock", lockName)
+                .tag("acquired", String.valueOf(acquired))
+                .register(meterRegistry)
+                .record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+}
@@ -3,16 +3,24 @@ package com.kusithm.meetupd.domain.contest.controller;
 
 import com.kusithm.meetupd.common.dto.SuccessResponse;
 import com.kusithm.meetupd.common.dto.code.SuccessCode;
+import com.kusithm.meetupd.domain.contest.dto.response.ContestSuggestionResponseDto;
+import com.kusithm.meetupd.domain.contest.dto.response.FindContestsPageResponseDto;
 import com.kusithm.meetupd.domain.contest.dto.response.FindContestsResponseDto;
 import com.kusithm.meetupd.domain.contest.dto.response.GetContestDetailInfoResponseDto;
 import com.kusithm.meetupd.domain.contest.dto.response.GetMainRecommendationResponseDto;
+import com.kusithm.meetupd.domain.contest.dto.response.ImportContestsResponseDto;
+import com.kusithm.meetupd.domain.contest.service.ContestImportService;
 import com.kusithm.meetupd.domain.contest.service.ContestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -22,6 +30,7 @@ import java.util.List;
 public class ContestController {
 
     private final ContestService contestService;
+    private final ContestImportService contestImportService;
 
     // 카테고리 공모전 조회 API
     @GetMapping("/categories")
@@ -31,13 +40,30 @@ public class ContestController {
         return SuccessResponse.of(SuccessCode.OK, response);
     }
 
-    // 공모전 검색어로 조회 API
-    @GetMapping("/search")
+    // 공모전 검색어로 조회 API (page, size 가 없으면 기존처럼 전체 결과)
+    @GetMapping(value = "/search", params = {"!page", "!size"})
     public ResponseEntity<SuccessResponse<List<FindContestsResponseDto>>> findContests (@RequestParam String searchText) {
         List<FindContestsResponseDto> response = contestService.findContestsBySearchText(searchText);
         return SuccessResponse.of(SuccessCode.OK, response);
     }
 
+    // 공모전 검색어로 페이지 조회 API
+    @GetMapping("/search")
+    public ResponseEntity<SuccessResponse<FindContestsPageResponseDto>> findContestsPage (@RequestParam String searchText,
+                                                                                         @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
+                                                                                         @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+        FindContestsPageResponseDto response = contestService.findContestsBySearchText(searchText, page, size);
+        return SuccessResponse.of(SuccessCode.OK, response);
+    }
+
+    // 공모전 검색어 자동완성 API
+    @GetMapping("/search/suggestions")
+    public ResponseEntity<SuccessResponse<List<ContestSuggestionResponseDto>>> suggestContests(@RequestParam String keyword,
+                                                                                                @RequestParam(value = "size", required = false, defaultValue = "10") Integer size) {
+        List<ContestSuggestionResponseDto> response = contestService.suggestContests(keyword, size);
+        return SuccessResponse.of(SuccessCode.OK, response);
+    }
+
     // 공모전 상세조회 API
     @GetMapping("/detail")
     public ResponseEntity<SuccessResponse<GetContestDetailInfoResponseDto>> getContestDetailInfo(@RequestParam String contestId) {
@@ -45,6 +71,14 @@ public class ContestController {
         return SuccessResponse.of(SuccessCode.OK, response);
     }
 
+    // 공모전 일괄 등록 API (.jsonl / .csv)
+    @PostMapping("/import")
+    public ResponseEntity<SuccessResponse<ImportContestsResponseDto>> importContests(@RequestHeader(value = "X-Admin-Key", required = false) String adminKey,
+                                                                                    @RequestPart(value = "file") MultipartFile file) {
+        ImportContestsResponseDto response = contestImportService.importContests(adminKey, file);
+        return SuccessResponse.of(SuccessCode.CREATED, response);
+    }
+
     @GetMapping("/main-recommendation")
     public ResponseEntity<SuccessResponse<GetMainRecommendationResponseDto>> getMainRecommendContestsAndTeams() {
         GetMainRecommendationResponseDto response = contestService.getMainRecommendContestsAndTeams();
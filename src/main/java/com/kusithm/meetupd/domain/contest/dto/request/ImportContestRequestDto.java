@@ -0,0 +1,58 @@
+package com.kusithm.meetupd.domain.contest.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 공모전 일괄 등록 파일의 한 줄 (JSON lines 는 contest 컬렉션과 같은 필드명 사용)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ImportContestRequestDto {
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("company")
+    private String company;
+
+    @Builder.Default
+    @JsonProperty("types")
+    private List<Integer> types = new ArrayList<>();
+
+    @JsonProperty("recruit_start")
+    private LocalDate recruitmentStartDate;
+
+    @JsonProperty("recruit_end")
+    private LocalDate recruitmentEndDate;
+
+    @JsonProperty("qualification")
+    private String qualification;
+
+    @JsonProperty("full_schedule")
+    private String fullSchedule;
+
+    @JsonProperty("price")
+    private String price;
+
+    @JsonProperty("apply_as")
+    private String applyAs;
+
+    @JsonProperty("description")
+    private String desc;
+
+    @JsonProperty("contest_images")
+    private List<String> contestImages;     // 파일에 없으면 null, 기존 값 유지
+
+    @JsonProperty("subject")
+    private String subject;
+}
@@ -0,0 +1,42 @@
+package com.kusithm.meetupd.domain.contest.dto.response;
+
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+@Builder
+@Getter
+public class ContestSuggestionResponseDto {
+
+    private String contestId;
+
+    private String title;
+
+    private String company;
+
+    private Long remainDay;
+
+    private Integer teamNum;
+
+    public static ContestSuggestionResponseDto of(ContestSummary contest, LocalDate nowDate) {
+        return ContestSuggestionResponseDto.builder()
+                .contestId(contest.getId())
+                .title(contest.getTitle())
+                .company(contest.getCompany())
+                .remainDay(DAYS.between(nowDate, contest.getRecruitmentEndDate()))
+                .teamNum(contest.getTeamNum())
+                .build();
+    }
+
+    public static List<ContestSuggestionResponseDto> createListOf(List<ContestSummary> contests, LocalDate nowDate) {
+        return contests.stream()
+                .map(data -> ContestSuggestionResponseDto.of(data, nowDate))
+                .collect(Collectors.toList());
+    }
+}
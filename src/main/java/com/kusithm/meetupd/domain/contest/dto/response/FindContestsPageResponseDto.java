@@ -0,0 +1,28 @@
+package com.kusithm.meetupd.domain.contest.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FindContestsPageResponseDto {
+
+    private List<FindContestsResponseDto> contests;     // 검색 점수순
+
+    private Integer page;   // 1부터
+
+    private Integer size;   // 실제 적용된 페이지 크기 (최대 50)
+
+    private Boolean hasNext;    // 다음 페이지가 있는지
+
+    public static FindContestsPageResponseDto of(List<FindContestsResponseDto> contests, int page, int size, boolean hasNext) {
+        return FindContestsPageResponseDto.builder()
+                .contests(contests)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -1,7 +1,7 @@
 package com.kusithm.meetupd.domain.contest.dto.response;
 
 
-import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.contest.entity.ContestType;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,22 +30,27 @@ public class FindContestsResponseDto {
 
     private Integer teamNum;
 
-    public static FindContestsResponseDto of(Contest contest, LocalDate nowDate) {
+    public static FindContestsResponseDto of(ContestSummary contest, LocalDate nowDate) {
+        return of(contest, contest.getTypes().stream()
+                .map(data ->ContestType.ofCode(data).getValue())
+                .collect(Collectors.toList()), nowDate);
+    }
+
+    // 분야 이름을 미리 변환해 둔 경우 (공모전 카탈로그)
+    public static FindContestsResponseDto of(ContestSummary contest, List<String> types, LocalDate nowDate) {
 
         return FindContestsResponseDto.builder()
                 .contestId(contest.getId())
                 .title(contest.getTitle())
                 .company(contest.getCompany())
-                .types(contest.getTypes().stream()
-                        .map(data ->ContestType.ofCode(data).getValue())
-                        .collect(Collectors.toList()))
+                .types(types)
                 .images(contest.getContestImages())
                 .remainDay(DAYS.between(nowDate, contest.getRecruitmentEndDate()))
                 .teamNum(contest.getTeamNum())
                 .build();
     }
 
-    public static List<FindContestsResponseDto> createListOf(List<Contest> contests, LocalDate nowDate) {
+    public static List<FindContestsResponseDto> createListOf(List<ContestSummary> contests, LocalDate nowDate) {
         return contests.stream()
                 .map(data -> FindContestsResponseDto.of(data, nowDate))
                 .collect(Collectors.toList());
@@ -1,6 +1,6 @@
 package com.kusithm.meetupd.domain.contest.dto.response;
 
-import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.review.dto.response.GetUserReviewResponseDto;
 import com.kusithm.meetupd.domain.review.entity.Review;
 import com.kusithm.meetupd.domain.team.dto.response.RecruitingTeamResponseDto;
@@ -27,7 +27,7 @@ public class GetMainRecommendationResponseDto {
 
     private List<RecruitingTeamResponseDto> recommendationTeams;
 
-    public static GetMainRecommendationResponseDto of(List<Contest> recommendContests, List<RecruitingTeamResponseDto> recommendationTeams, LocalDate nowDate) {
+    public static GetMainRecommendationResponseDto of(List<ContestSummary> recommendContests, List<RecruitingTeamResponseDto> recommendationTeams, LocalDate nowDate) {
         return GetMainRecommendationResponseDto.builder()
                 .recommendationContests(recommendContests.stream()
                         .map(it ->RecommendationContest.of(it, nowDate))
@@ -52,7 +52,7 @@ public class GetMainRecommendationResponseDto {
 
         private Integer teamNum;
 
-        public static RecommendationContest of(Contest contest, LocalDate nowDate) {
+        public static RecommendationContest of(ContestSummary contest, LocalDate nowDate) {
             return RecommendationContest.builder()
                     .contestId(contest.getId())
                     .title(contest.getTitle())
@@ -0,0 +1,29 @@
+package com.kusithm.meetupd.domain.contest.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class ImportContestsResponseDto {
+
+    private Integer totalCount;         // 파일의 공모전 수
+
+    private Integer insertedCount;      // 새로 등록된 공모전 수
+
+    private Integer updatedCount;       // 이미 있던 공모전 중 내용이 바뀐 수
+
+    private Integer duplicatedCount;    // 파일 안에서 중복되어 건너뛴 수
+
+    private Integer rejectedCount;      // 형식/분야가 잘못되어 건너뛴 수
+
+    private List<Integer> rejectedLines;    // 건너뛴 줄 번호 (최대 100개)
+
+    private Integer failedCount;        // 형식은 맞지만 Mongo 저장에 실패한 수
+
+    private List<Integer> failedLines;      // 저장에 실패한 줄 번호 (최대 100개)
+
+    private Long elapsedMillis;
+}
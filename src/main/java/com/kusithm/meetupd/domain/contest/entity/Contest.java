@@ -50,6 +50,9 @@ public class Contest {
     @Field(name = "team_num")
     private Integer teamNum;    // 공모전 내 팀 수
 
+    @Field(name = "team_num_flush_id")
+    private Long teamNumFlushId;    // 마지막으로 반영한 team_num outbox flush id, 같은 flush 를 두 번 반영하지 않도록
+
     @Field(name = "contest_images")
     private List<String> contestImages = new ArrayList<>();   // 공모전 사진
 
@@ -0,0 +1,59 @@
+package com.kusithm.meetupd.domain.contest.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 목록/카드 응답용 공모전 읽기 모델, contest 컬렉션에서 아래 필드만 projection 해서 조회 (상세 설명 등 큰 필드 제외)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ContestSummary {
+
+    public static final String PROJECTION = "{ title : 1, company : 1, types : 1, recruit_end : 1, team_num : 1, contest_images : 1 }";
+
+    @Id
+    @Field(name = "_id")
+    private String id;
+
+    @Field(name = "title")
+    private String title;   // 공모전 제목
+
+    @Field(name = "company")
+    private String company;   // 공모전 주최사
+
+    @Builder.Default
+    @Field(name = "types")
+    private List<Integer> types = new ArrayList<>();   // 공모전 분야
+
+    @Field(name = "recruit_end")
+    private LocalDate recruitmentEndDate;    // 지원 마감 일자
+
+    @Field(name = "team_num")
+    private Integer teamNum;    // 공모전 내 팀 수
+
+    @Builder.Default
+    @Field(name = "contest_images")
+    private List<String> contestImages = new ArrayList<>();   // 공모전 사진
+
+    public static ContestSummary from(Contest contest) {
+        return ContestSummary.builder()
+                .id(contest.getId())
+                .title(contest.getTitle())
+                .company(contest.getCompany())
+                .types(contest.getTypes())
+                .recruitmentEndDate(contest.getRecruitmentEndDate())
+                .teamNum(contest.getTeamNum())
+                .contestImages(contest.getContestImages())
+                .build();
+    }
+}
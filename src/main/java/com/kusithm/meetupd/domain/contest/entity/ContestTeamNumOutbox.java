@@ -0,0 +1,35 @@
+package com.kusithm.meetupd.domain.contest.entity;
+
+import com.kusithm.meetupd.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 공모전 team_num 증감을 팀 트랜잭션과 함께 기록, 커밋된 것만 주기적으로 Mongo 에 반영
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+@Entity(name = "contest_team_num_outbox")
+public class ContestTeamNumOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "contest_team_num_outbox_id")
+    private Long id;
+
+    @Column(name = "contest_id", nullable = false)
+    private String contestId;
+
+    @Column(name = "delta", nullable = false)
+    private Integer delta;  // 팀 오픈 +1, 모집 마감/삭제 -1
+
+    @Column(name = "flush_id")
+    private Long flushId;   // 반영 중인 flush id, 아직 반영 대상으로 잡히지 않았으면 null
+
+    public static ContestTeamNumOutbox of(String contestId, Integer delta) {
+        return ContestTeamNumOutbox.builder()
+                .contestId(contestId)
+                .delta(delta)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.kusithm.meetupd.domain.contest.mysql;
+
+import com.kusithm.meetupd.domain.contest.entity.ContestTeamNumOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ContestTeamNumOutboxRepository extends JpaRepository<ContestTeamNumOutbox, Long> {
+
+    List<ContestTeamNumOutbox> findAllByFlushIdIsNullOrderByIdAsc(Pageable pageable);
+
+    List<ContestTeamNumOutbox> findAllByFlushId(Long flushId);
+
+    // 이전 flush 가 반영 도중 멈춰 남아 있는 증감
+    Optional<ContestTeamNumOutbox> findFirstByFlushIdIsNotNullOrderByIdAsc();
+
+    // 아직 잡히지 않은 증감만 flush 대상으로 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE contest_team_num_outbox o SET o.flushId = :flushId WHERE o.id IN :ids AND o.flushId IS NULL")
+    int claimForFlush(@Param("ids") Collection<Long> ids, @Param("flushId") Long flushId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM contest_team_num_outbox o WHERE o.flushId = :flushId")
+    int deleteAllByFlushId(@Param("flushId") Long flushId);
+}
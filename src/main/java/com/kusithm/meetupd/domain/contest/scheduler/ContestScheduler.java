@@ -0,0 +1,68 @@
+package com.kusithm.meetupd.domain.contest.scheduler;
+
+import com.kusithm.meetupd.common.redis.lock.RedisLeaseLock;
+import com.kusithm.meetupd.domain.contest.search.ContestSearchEngine;
+import com.kusithm.meetupd.domain.contest.service.ContestCatalog;
+import com.kusithm.meetupd.domain.contest.service.ContestService;
+import com.kusithm.meetupd.domain.contest.service.ContestTeamNumService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ContestScheduler {
+
+    private final ContestTeamNumService contestTeamNumService;
+    private final ContestCatalog contestCatalog;
+    private final ContestService contestService;
+    private final ContestSearchEngine contestSearchEngine;
+    private final RedisLeaseLock redisLeaseLock;
+
+    // flush 와 reconcile 이 동시에 돌지 않도록 같은 락 사용
+    private static final String CONTEST_TEAM_NUM_LOCK = "contest-team-num";
+    private static final Duration CONTEST_TEAM_NUM_LOCK_LEASE = Duration.ofSeconds(30);
+    private static final Duration RECONCILE_LOCK_AT_LEAST_FOR = Duration.ofSeconds(30);  // 다른 인스턴스의 같은 cron 이 락을 기다렸다 다시 실행하지 않도록
+
+    // outbox 에 쌓인 team_num 증감을 주기적으로 Mongo 에 반영
+    @Scheduled(fixedDelay = 5000)
+    public void scheduleTaskFlushContestTeamNum() {
+        redisLeaseLock.runWithLock(CONTEST_TEAM_NUM_LOCK, CONTEST_TEAM_NUM_LOCK_LEASE, lockToken -> {
+            Set<String> flushedContestIds = contestTeamNumService.flush();
+            if (!flushedContestIds.isEmpty()) {
+                log.info("flushContestTeamNum - flushed contests {}", flushedContestIds.size());
+                contestCatalog.refresh();
+                contestSearchEngine.refresh(flushedContestIds);
+                contestService.invalidateMainRecommendation();
+            }
+        });
+    }
+
+    // 모집 중인 팀 수 기준으로 team_num 보정 (팀 종료 배치 이후)
+    @Scheduled(cron = "0 40 0 * * *")
+    public void scheduleTaskReconcileContestTeamNum() {
+        redisLeaseLock.runWithLock(CONTEST_TEAM_NUM_LOCK, CONTEST_TEAM_NUM_LOCK_LEASE, Duration.ofSeconds(10), RECONCILE_LOCK_AT_LEAST_FOR, lockToken -> {
+            int contestCount = contestTeamNumService.reconcile();
+            log.info("reconcileContestTeamNum schedule tasks - {}, contests with recruiting teams - {}", LocalDate.now(), contestCount);
+        });
+        contestCatalog.refresh();
+    }
+
+    // 인스턴스마다 가진 스냅샷이므로 락 없이 각자 갱신 (새로 등록된 공모전, 다른 인스턴스에서 반영된 team_num)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void scheduleTaskRefreshContestCatalog() {
+        contestCatalog.refresh();
+    }
+
+    // 외부에서 추가/수정된 공모전, 놓친 색인 갱신 알림 반영을 위해 검색 색인 전체 재생성 (n-gram 검색 사용 시)
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void scheduleTaskRebuildContestSearchIndex() {
+        contestSearchEngine.rebuild();
+    }
+}
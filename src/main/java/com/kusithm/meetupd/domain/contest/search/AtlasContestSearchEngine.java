@@ -0,0 +1,83 @@
+package com.kusithm.meetupd.domain.contest.search;
+
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// Atlas Search 인덱스(wanteam-db-contest) 사용, 색인은 Atlas 가 관리
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "contest.search.engine", havingValue = "atlas", matchIfMissing = true)
+public class AtlasContestSearchEngine implements ContestSearchEngine {
+
+    private final MongoConverter mongoConverter;
+    private final MongoClient mongoClient;
+
+    // 목록 응답(FindContestsResponseDto)에 필요한 필드만 조회
+    private static final Document SEARCH_RESULT_PROJECTION = Document.parse(ContestSummary.PROJECTION);
+
+    @Override
+    public List<ContestSummary> search(String searchText) {
+        AggregateIterable<Document> result = getContestCollection().aggregate(Arrays.asList(
+                createSearchStage(searchText),
+                new Document("$project", SEARCH_RESULT_PROJECTION)));
+        return readContests(result, new ArrayList<>());
+    }
+
+    @Override
+    public List<ContestSummary> search(String searchText, int offset, int limit) {
+        return searchContestByText(searchText, offset, limit, getContestCollection());
+    }
+
+    @Override
+    public void refresh(Collection<String> contestIds) {
+    }
+
+    @Override
+    public void requestRebuild() {
+    }
+
+    @Override
+    public void rebuild() {
+    }
+
+    // 페이지 크기만큼만 커서로 받아 바로 변환, 상세 설명 등 큰 필드는 서버에서 제외
+    private List<ContestSummary> searchContestByText(String searchText, int offset, int limit, MongoCollection<Document> collection) {
+        AggregateIterable<Document> result = collection.aggregate(Arrays.asList(
+                createSearchStage(searchText),
+                new Document("$skip", offset),
+                new Document("$limit", limit),
+                new Document("$project", SEARCH_RESULT_PROJECTION)))
+                .batchSize(limit);
+        return readContests(result, new ArrayList<>(limit));
+    }
+
+    private MongoCollection<Document> getContestCollection() {
+        MongoDatabase database = mongoClient.getDatabase("wanteam-db");
+        return database.getCollection("contest");
+    }
+
+    private Document createSearchStage(String searchText) {
+        return new Document("$search",
+                new Document("index", "wanteam-db-contest")
+                        .append("text", new Document("query", searchText)
+                                .append("path", new Document("wildcard", "*"))));
+    }
+
+    private List<ContestSummary> readContests(AggregateIterable<Document> result, List<ContestSummary> contests) {
+        result.forEach(doc -> contests.add(mongoConverter.read(ContestSummary.class, doc)));
+        return contests;
+    }
+}
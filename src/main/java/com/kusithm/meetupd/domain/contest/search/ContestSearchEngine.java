@@ -0,0 +1,25 @@
+package com.kusithm.meetupd.domain.contest.search;
+
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
+
+import java.util.Collection;
+import java.util.List;
+
+// 공모전 검색 구현 (contest.search.engine = atlas | ngram)
+public interface ContestSearchEngine {
+
+    // 점수 순으로 전체 반환
+    List<ContestSummary> search(String searchText);
+
+    // 점수 순으로 offset 부터 limit 개만 반환
+    List<ContestSummary> search(String searchText, int offset, int limit);
+
+    // 공모전이 추가/수정된 경우 모든 인스턴스에서 해당 공모전만 다시 색인
+    void refresh(Collection<String> contestIds);
+
+    // 공모전이 한꺼번에 추가/수정된 경우 모든 인스턴스에서 전체 다시 색인
+    void requestRebuild();
+
+    // 이 인스턴스의 색인 전체 다시 색인
+    void rebuild();
+}
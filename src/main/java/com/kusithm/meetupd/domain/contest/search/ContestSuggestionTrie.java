@@ -0,0 +1,85 @@
+package com.kusithm.meetupd.domain.contest.search;
+
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
+
+import java.util.*;
+
+/**
+ * 공모전 제목/주최사 자동완성용 자모 단위 trie (만든 뒤에는 읽기 전용)
+ * 각 단어 시작 위치부터의 자모열과 초성열을 넣고, 노드마다 순위가 높은 공모전 MAX_SUGGESTIONS 개를 미리 담아 두어
+ * 조회는 입력 길이만큼 노드를 따라 내려가는 것으로 끝난다.
+ */
+public final class ContestSuggestionTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_KEY_LENGTH = 30;   // 그 이상 입력은 검색 API 사용
+    private static final String WORD_SEPARATOR = "\\s+";
+
+    private final Node root = new Node();
+
+    private ContestSuggestionTrie() {
+    }
+
+    // contests 는 순위 순서로 넘겨야 함, 노드마다 먼저 들어온 공모전부터 채움
+    public static ContestSuggestionTrie of(List<ContestSummary> rankedContests) {
+        ContestSuggestionTrie trie = new ContestSuggestionTrie();
+        rankedContests.forEach(trie::add);
+        return trie;
+    }
+
+    public List<ContestSummary> suggest(String keyword, int size) {
+        String key = HangulJamo.decompose(keyword);
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            return new ArrayList<>();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return new ArrayList<>();
+        }
+        return node.suggestions.subList(0, Math.min(size, node.suggestions.size()));
+    }
+
+    private void add(ContestSummary contest) {
+        Set<String> keys = new HashSet<>();
+        addKeys(contest.getTitle(), keys);
+        addKeys(contest.getCompany(), keys);
+        keys.forEach(key -> insert(key, contest));
+    }
+
+    private void addKeys(String text, Set<String> keys) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String[] words = text.trim().split(WORD_SEPARATOR);
+        for (int i = 0; i < words.length; i++) {
+            String suffix = String.join("", Arrays.copyOfRange(words, i, words.length));
+            keys.add(HangulJamo.decompose(suffix));
+            keys.add(HangulJamo.choseong(suffix));
+        }
+    }
+
+    private void insert(String key, ContestSummary contest) {
+        Node node = root;
+        int length = Math.min(key.length(), MAX_KEY_LENGTH);
+        for (int i = 0; i < length; i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            node.offer(contest);
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<ContestSummary> suggestions = new ArrayList<>(1);
+
+        // 같은 공모전이 여러 키로 같은 노드를 지날 수 있으므로 중복 확인 (최대 MAX_SUGGESTIONS 개라 선형 탐색)
+        private void offer(ContestSummary contest) {
+            if (suggestions.size() < MAX_SUGGESTIONS && !suggestions.contains(contest)) {
+                suggestions.add(contest);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.kusithm.meetupd.domain.contest.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// 입력 중인 글자("공ㅁ", "각")도 완성된 글자("공모", "가고")의 접두어가 되도록 한글을 자모 단위로 분리
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    // 겹모음, 겹받침은 입력 순서대로 풀어 둠 (ㅘ -> ㅗㅏ, ㄳ -> ㄱㅅ)
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String COMPOSITE_JAMO = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+    private static final String[] COMPOSITE_JAMO_DECOMPOSED = {
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ", "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"
+    };
+
+    private HangulJamo() {
+    }
+
+    // 공백/기호를 지우고 소문자로 바꾼 뒤 완성형 한글을 자모로 분리
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder();
+        for (char c : normalize(text).toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                builder.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+                continue;
+            }
+            int compositeIndex = COMPOSITE_JAMO.indexOf(c);
+            if (compositeIndex >= 0) {
+                builder.append(COMPOSITE_JAMO_DECOMPOSED[compositeIndex]);
+                continue;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    // 초성 검색용 ("공모전" -> "ㄱㅁㅈ"), 한글이 아닌 글자는 그대로
+    public static String choseong(String text) {
+        StringBuilder builder = new StringBuilder();
+        for (char c : normalize(text).toCharArray()) {
+            if (isSyllable(c)) {
+                builder.append(CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)]);
+                continue;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]", "");
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
@@ -0,0 +1,199 @@
+package com.kusithm.meetupd.domain.contest.search;
+
+import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
+import com.kusithm.meetupd.domain.contest.mongo.ContestRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 n-gram 역색인으로 공모전 검색 (Atlas Search 없이 로컬 mongod 에서도 동작)
+ * 제목/주최사/상세 설명을 가중치를 둔 2-gram, 3-gram 으로 색인하고 BM25 로 점수를 매긴다.
+ * 색인은 인스턴스마다 따로 가지므로, 공모전이 바뀌면 Redis 채널로 알려 모든 인스턴스(자신 포함)가 각자 다시 색인한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "contest.search.engine", havingValue = "ngram")
+public class NgramContestSearchEngine implements ContestSearchEngine {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double COMPANY_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double MIN_MATCH_RATIO = 0.5;  // 검색어 n-gram 중 절반 이상 포함된 공모전만
+    private static final String REFRESH_CHANNEL = "contest:search:refresh";
+    private static final String REBUILD_MESSAGE = "*";   // 그 외 메시지는 쉼표로 구분한 공모전 id
+    private static final String CONTEST_ID_SEPARATOR = ",";
+
+    private final ContestRepository contestRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private InvertedIndex index = new InvertedIndex();
+
+    public NgramContestSearchEngine(ContestRepository contestRepository, StringRedisTemplate redisTemplate,
+                                    RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.contestRepository = contestRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribeRefresh() {
+        redisMessageListenerContainer.addMessageListener(this::onRefreshMessage, new ChannelTopic(REFRESH_CHANNEL));
+    }
+
+    @Override
+    public List<ContestSummary> search(String searchText) {
+        return search(searchText, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<ContestSummary> search(String searchText, int offset, int limit) {
+        List<String> queryGrams = NgramTokenizer.tokenize(searchText).stream().distinct().toList();
+        if (queryGrams.isEmpty()) {
+            return new ArrayList<>();
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(queryGrams, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void refresh(Collection<String> contestIds) {
+        if (contestIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.convertAndSend(REFRESH_CHANNEL, String.join(CONTEST_ID_SEPARATOR, contestIds));
+    }
+
+    @Override
+    public void requestRebuild() {
+        redisTemplate.convertAndSend(REFRESH_CHANNEL, REBUILD_MESSAGE);
+    }
+
+    private void onRefreshMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (REBUILD_MESSAGE.equals(body)) {
+            rebuild();
+            return;
+        }
+        refreshLocally(List.of(body.split(CONTEST_ID_SEPARATOR)));
+    }
+
+    private void refreshLocally(Collection<String> contestIds) {
+        List<Contest> contests = contestRepository.findAllContestsByIds(contestIds.stream().map(ObjectId::new).toList());
+        lock.writeLock().lock();
+        try {
+            contestIds.forEach(index::remove);
+            contests.forEach(index::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 새 색인을 만든 뒤 교체, 만드는 동안에는 기존 색인으로 검색
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        InvertedIndex rebuilt = new InvertedIndex();
+        contestRepository.findAll().forEach(rebuilt::add);
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("contest ngram index rebuilt - contests {}, grams {}", rebuilt.documents.size(), rebuilt.postings.size());
+    }
+
+    private static final class InvertedIndex {
+
+        private final Map<String, Map<String, Double>> postings = new HashMap<>();  // n-gram -> 공모전 id -> 가중 빈도
+        private final Map<String, IndexedContest> documents = new HashMap<>();
+        private double totalLength;
+
+        private void add(Contest contest) {
+            Map<String, Double> termFrequencies = new HashMap<>();
+            addField(contest.getTitle(), TITLE_WEIGHT, termFrequencies);
+            addField(contest.getCompany(), COMPANY_WEIGHT, termFrequencies);
+            addField(contest.getDesc(), DESCRIPTION_WEIGHT, termFrequencies);
+            double length = termFrequencies.values().stream().mapToDouble(Double::doubleValue).sum();
+            termFrequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(contest.getId(), frequency));
+            documents.put(contest.getId(), new IndexedContest(ContestSummary.from(contest), termFrequencies.keySet(), length));
+            totalLength += length;
+        }
+
+        private void remove(String contestId) {
+            IndexedContest removed = documents.remove(contestId);
+            if (removed == null) {
+                return;
+            }
+            for (String term : removed.terms()) {
+                Map<String, Double> termPostings = postings.get(term);
+                termPostings.remove(contestId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= removed.length();
+        }
+
+        private List<ContestSummary> search(List<String> queryGrams, int offset, int limit) {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return new ArrayList<>();
+            }
+            double averageLength = totalLength / documentCount;
+            Map<String, Double> scores = new HashMap<>();
+            Map<String, Integer> matchedGrams = new HashMap<>();
+            for (String gram : queryGrams) {
+                Map<String, Double> termPostings = postings.get(gram);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+                termPostings.forEach((contestId, frequency) -> {
+                    double length = documents.get(contestId).length();
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(contestId, score, Double::sum);
+                    matchedGrams.merge(contestId, 1, Integer::sum);
+                });
+            }
+            int minMatchedGrams = (int) Math.ceil(queryGrams.size() * MIN_MATCH_RATIO);
+            return scores.entrySet().stream()
+                    .filter(entry -> matchedGrams.get(entry.getKey()) >= minMatchedGrams)
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                    .skip(offset)
+                    .limit(limit)
+                    .map(entry -> documents.get(entry.getKey()).contest())
+                    .toList();
+        }
+
+        private void addField(String text, double weight, Map<String, Double> termFrequencies) {
+            NgramTokenizer.tokenize(text).forEach(term -> termFrequencies.merge(term, weight, Double::sum));
+        }
+    }
+
+    // 색인 후에는 목록 응답에 필요한 필드만 보관
+    private record IndexedContest(ContestSummary contest, Set<String> terms, double length) {
+    }
+}
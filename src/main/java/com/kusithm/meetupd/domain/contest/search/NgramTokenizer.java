@@ -0,0 +1,46 @@
+package com.kusithm.meetupd.domain.contest.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 띄어쓰기가 불규칙한 한글 제목/주최사를 위해 단어 단위 대신 글자 2-gram, 3-gram 으로 분리
+public final class NgramTokenizer {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private NgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> grams = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return grams;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        for (String word : WORD_SEPARATOR.split(normalized)) {
+            addGrams(word, grams);
+        }
+        return grams;
+    }
+
+    private static void addGrams(String word, List<String> grams) {
+        int length = word.length();
+        if (length == 0) {
+            return;
+        }
+        if (length < MIN_GRAM) {
+            grams.add(word);
+            return;
+        }
+        for (int gram = MIN_GRAM; gram <= MAX_GRAM; gram++) {
+            for (int start = 0; start + gram <= length; start++) {
+                grams.add(word.substring(start, start + gram));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kusithm.meetupd.domain.contest.service;
+
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
+import com.kusithm.meetupd.domain.contest.mongo.ContestRepository;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class ContestBatchLoader {
+
+    private final ContestRepository contestRepository;
+
+    // 목록에 필요한 공모전 id를 모아 $in 쿼리 한 번으로 조회 (카드에 필요한 필드만)
+    public Map<String, ContestSummary> loadContests(Collection<String> contestIds) {
+        List<ObjectId> objectIds = contestIds.stream()
+                .distinct()
+                .map(ObjectId::new)
+                .toList();
+        if (objectIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return contestRepository.findAllContestSummariesByIds(objectIds).stream()
+                .collect(Collectors.toMap(ContestSummary::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,166 @@
+package com.kusithm.meetupd.domain.contest.service;
+
+import com.kusithm.meetupd.domain.contest.dto.response.ContestSuggestionResponseDto;
+import com.kusithm.meetupd.domain.contest.dto.response.FindContestsResponseDto;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
+import com.kusithm.meetupd.domain.contest.entity.ContestType;
+import com.kusithm.meetupd.domain.contest.mongo.ContestRepository;
+import com.kusithm.meetupd.domain.contest.search.ContestSuggestionTrie;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 모집 중인 공모전 목록의 메모리 스냅샷
+ * 마감일 순으로 정렬해 두고 분야별로 미리 나눠 두어, 카테고리 조회 시 Mongo 조회 없이 마감 지난 공모전만 잘라내고 remainDay 만 계산한다.
+ * 검색어 자동완성 trie 도 같은 스냅샷으로 함께 만든다.
+ */
+@Slf4j
+@Component
+public class ContestCatalog {
+
+    private final ContestRepository contestRepository;
+
+    private volatile Snapshot snapshot;
+
+    public ContestCatalog(ContestRepository contestRepository, MeterRegistry meterRegistry) {
+        this.contestRepository = contestRepository;
+        Gauge.builder("contest.catalog.age", this, ContestCatalog::getSnapshotAgeSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public List<FindContestsResponseDto> findOpenContests(LocalDate nowDate) {
+        return getSnapshot().all().findOpenContests(nowDate);
+    }
+
+    public List<FindContestsResponseDto> findOpenContests(ContestType contestType, LocalDate nowDate) {
+        return getSnapshot().byType().get(contestType).findOpenContests(nowDate);
+    }
+
+    // 자동완성 결과 중 이미 마감된 공모전은 제외 (스냅샷 갱신 전 자정을 넘긴 경우)
+    public List<ContestSuggestionResponseDto> suggest(String keyword, int size, LocalDate nowDate) {
+        List<ContestSummary> contests = getSnapshot().suggestionTrie().suggest(keyword, ContestSuggestionTrie.MAX_SUGGESTIONS).stream()
+                .filter(contest -> !contest.getRecruitmentEndDate().isBefore(nowDate))
+                .limit(size)
+                .toList();
+        return ContestSuggestionResponseDto.createListOf(contests, nowDate);
+    }
+
+    // 주기적으로, 또는 team_num 이 바뀐 뒤 호출
+    public synchronized void refresh() {
+        LocalDate nowDate = LocalDate.now();
+        List<CatalogEntry> entries = contestRepository.findAllContestSummariesByDate(nowDate).stream()
+                .map(CatalogEntry::of)
+                .sorted(Comparator.comparing(entry -> entry.recruitEnd))
+                .toList();
+
+        Map<ContestType, List<CatalogEntry>> entriesByType = new EnumMap<>(ContestType.class);
+        for (ContestType contestType : ContestType.values()) {
+            entriesByType.put(contestType, new ArrayList<>());
+        }
+        for (CatalogEntry entry : entries) {
+            entry.contestTypes.forEach(contestType -> entriesByType.get(contestType).add(entry));
+        }
+
+        EnumMap<ContestType, SortedEntries> byType = new EnumMap<>(ContestType.class);
+        entriesByType.forEach((contestType, typeEntries) -> byType.put(contestType, new SortedEntries(typeEntries)));
+        snapshot = new Snapshot(new SortedEntries(entries), byType, createSuggestionTrie(entries), Instant.now());
+        log.info("contest catalog refreshed - contests {}", entries.size());
+    }
+
+    // 팀이 많은 공모전, 같으면 마감이 가까운 공모전 순
+    private ContestSuggestionTrie createSuggestionTrie(List<CatalogEntry> entries) {
+        List<ContestSummary> rankedContests = entries.stream()
+                .map(entry -> entry.contest)
+                .sorted(Comparator.comparing((ContestSummary contest) -> Objects.requireNonNullElse(contest.getTeamNum(), 0)).reversed()
+                        .thenComparing(ContestSummary::getRecruitmentEndDate))
+                .toList();
+        return ContestSuggestionTrie.of(rankedContests);
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private double getSnapshotAgeSeconds() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return -1;
+        }
+        return Duration.between(current.loadedAt(), Instant.now()).toMillis() / 1000.0;
+    }
+
+    private record Snapshot(SortedEntries all, EnumMap<ContestType, SortedEntries> byType, ContestSuggestionTrie suggestionTrie, Instant loadedAt) {
+    }
+
+    // 마감일 오름차순, 오늘 이후 마감인 시작 위치를 이분 탐색
+    private static final class SortedEntries {
+
+        private final List<CatalogEntry> entries;
+        private final LocalDate[] recruitEnds;
+
+        private SortedEntries(List<CatalogEntry> entries) {
+            this.entries = List.copyOf(entries);
+            this.recruitEnds = entries.stream().map(entry -> entry.recruitEnd).toArray(LocalDate[]::new);
+        }
+
+        private List<FindContestsResponseDto> findOpenContests(LocalDate nowDate) {
+            int from = findFirstNotBefore(nowDate);
+            List<FindContestsResponseDto> contests = new ArrayList<>(entries.size() - from);
+            for (int i = from; i < entries.size(); i++) {
+                contests.add(entries.get(i).toResponse(nowDate));
+            }
+            return contests;
+        }
+
+        private int findFirstNotBefore(LocalDate nowDate) {
+            int low = 0;
+            int high = recruitEnds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (recruitEnds[mid].isBefore(nowDate)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    // 분야 이름은 스냅샷 생성 시 한 번만 변환
+    private static final class CatalogEntry {
+
+        private final ContestSummary contest;
+        private final LocalDate recruitEnd;
+        private final List<ContestType> contestTypes;
+        private final List<String> typeValues;
+
+        private CatalogEntry(ContestSummary contest) {
+            this.contest = contest;
+            this.recruitEnd = contest.getRecruitmentEndDate();
+            this.contestTypes = contest.getTypes().stream().distinct().map(ContestType::ofCode).toList();
+            this.typeValues = contest.getTypes().stream().map(code -> ContestType.ofCode(code).getValue()).toList();
+        }
+
+        private static CatalogEntry of(ContestSummary contest) {
+            return new CatalogEntry(contest);
+        }
+
+        private FindContestsResponseDto toResponse(LocalDate nowDate) {
+            return FindContestsResponseDto.of(contest, typeValues, nowDate);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.kusithm.meetupd.domain.contest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kusithm.meetupd.common.error.BadRequestException;
+import com.kusithm.meetupd.common.error.ConflictException;
+import com.kusithm.meetupd.common.error.ForbiddenException;
+import com.kusithm.meetupd.common.redis.lock.RedisLeaseLock;
+import com.kusithm.meetupd.domain.contest.dto.request.ImportContestRequestDto;
+import com.kusithm.meetupd.domain.contest.dto.response.ImportContestsResponseDto;
+import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestType;
+import com.kusithm.meetupd.domain.contest.search.ContestSearchEngine;
+import com.kusithm.meetupd.domain.contest.util.ContestFeedReader;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.kusithm.meetupd.common.error.ErrorCode.CONTEST_IMPORT_IN_PROGRESS;
+import static com.kusithm.meetupd.common.error.ErrorCode.INVALID_ADMIN_KEY;
+import static com.kusithm.meetupd.common.error.ErrorCode.INVALID_CONTEST_IMPORT_FILE;
+
+/**
+ * 공모전 일괄 등록
+ * (제목, 주최사, 지원 시작일)을 공모전의 자연 키로 보고 unordered bulkWrite upsert 로 배치 단위 저장 (인덱스는 MongoIndexBootstrapper),
+ * 등록 후 카탈로그/검색 색인(모든 인스턴스)/메인 추천 캐시를 갱신한다.
+ * 자연 키 upsert 는 동시에 실행되면 같은 공모전을 두 번 만들 수 있으므로 인스턴스와 관계없이 한 번에 하나의 등록만 실행한다.
+ * 운영용 API 이므로 설정된 관리자 키(contest.import.admin-key)를 X-Admin-Key 헤더로 보낸 요청만 허용한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ContestImportService {
+
+    private static final int MAX_REJECTED_LINES = 100;
+    private static final String CONTEST_IMPORT_LOCK = "contest-import";
+    private static final Duration CONTEST_IMPORT_LOCK_LEASE = Duration.ofMinutes(1);  // 등록 중에는 자동 연장
+    private static final Set<Integer> CONTEST_TYPE_CODES = Arrays.stream(ContestType.values())
+            .map(ContestType::getCode)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final ContestCatalog contestCatalog;
+    private final ContestSearchEngine contestSearchEngine;
+    private final ContestService contestService;
+    private final MeterRegistry meterRegistry;
+    private final RedisLeaseLock redisLeaseLock;
+
+    @Value("${contest.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${contest.import.admin-key:}")
+    private String adminKey;
+
+    public ImportContestsResponseDto importContests(String requestAdminKey, MultipartFile file) {
+        verifyAdminKey(requestAdminKey);
+        ContestFeedReader.Format format = ContestFeedReader.Format.ofFileName(file.getOriginalFilename());
+
+        long startedAt = System.nanoTime();
+        ImportResult result = new ImportResult();
+        if (!redisLeaseLock.runWithLock(CONTEST_IMPORT_LOCK, CONTEST_IMPORT_LOCK_LEASE, lockToken -> importFile(file, format, result))) {
+            throw new ConflictException(CONTEST_IMPORT_IN_PROGRESS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        recordMetrics(result, elapsedNanos);
+        if (result.insertedCount + result.updatedCount > 0) {
+            refreshContestCaches();
+        }
+        return result.toResponse(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    // 관리자 키가 설정되지 않았으면 모두 거부, 비교 시간으로 키를 추측할 수 없도록 고정 시간 비교
+    private void verifyAdminKey(String requestAdminKey) {
+        if (isBlank(adminKey) || requestAdminKey == null
+                || !MessageDigest.isEqual(adminKey.getBytes(StandardCharsets.UTF_8), requestAdminKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new ForbiddenException(INVALID_ADMIN_KEY);
+        }
+    }
+
+    private void importFile(MultipartFile file, ContestFeedReader.Format format, ImportResult result) {
+        try (ContestFeedReader reader = new ContestFeedReader(
+                new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)), format, objectMapper)) {
+            importRecords(reader, result);
+        } catch (IOException e) {
+            throw new BadRequestException(INVALID_CONTEST_IMPORT_FILE);
+        }
+    }
+
+    private void importRecords(ContestFeedReader reader, ImportResult result) throws IOException {
+        Set<NaturalKey> importedKeys = new HashSet<>();
+        List<ContestFeedReader.Record> batch = new ArrayList<>(batchSize);
+        ContestFeedReader.Record record;
+        while ((record = reader.next()) != null) {
+            result.totalCount++;
+            ImportContestRequestDto contest = record.contest();
+            if (contest == null || !isValid(contest)) {
+                result.reject(record.lineNumber());
+                continue;
+            }
+            // 파일 안에서 같은 공모전이 여러 번 나오면 처음 것만 등록
+            if (!importedKeys.add(NaturalKey.of(contest))) {
+                result.duplicatedCount++;
+                continue;
+            }
+            batch.add(record);
+            if (batch.size() == batchSize) {
+                upsertBatch(batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            upsertBatch(batch, result);
+        }
+    }
+
+    private boolean isValid(ImportContestRequestDto contest) {
+        if (isBlank(contest.getTitle()) || isBlank(contest.getCompany())
+                || contest.getRecruitmentStartDate() == null || contest.getRecruitmentEndDate() == null) {
+            return false;
+        }
+        if (contest.getRecruitmentEndDate().isBefore(contest.getRecruitmentStartDate())) {
+            return false;
+        }
+        return contest.getTypes() != null && !contest.getTypes().isEmpty() && CONTEST_TYPE_CODES.containsAll(contest.getTypes());
+    }
+
+    // 배치 하나를 한 번의 bulkWrite 로, 같은 자연 키의 공모전이 있으면 파일에 있는 내용만 덮어쓰고 team_num 은 유지
+    // unordered 라 일부 공모전 저장이 실패해도 나머지는 저장되므로, 실패한 줄만 기록하고 다음 배치를 이어서 저장
+    private void upsertBatch(List<ContestFeedReader.Record> batch, ImportResult result) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Contest.class);
+        batch.forEach(record -> bulkOperations.upsert(createNaturalKeyQuery(record.contest()), createUpsertUpdate(record.contest())));
+        try {
+            addWriteCounts(bulkOperations.execute(), result);
+        } catch (BulkOperationException e) {
+            addWriteCounts(e.getResult(), result);
+            for (BulkWriteError error : e.getErrors()) {
+                int lineNumber = batch.get(error.getIndex()).lineNumber();
+                log.warn("contest import write failed - line {}, code {}, {}", lineNumber, error.getCode(), error.getMessage());
+                result.fail(lineNumber);
+            }
+        }
+    }
+
+    private void addWriteCounts(BulkWriteResult bulkWriteResult, ImportResult result) {
+        result.insertedCount += bulkWriteResult.getUpserts().size();
+        result.updatedCount += bulkWriteResult.getModifiedCount();
+    }
+
+    private Query createNaturalKeyQuery(ImportContestRequestDto contest) {
+        return new Query(Criteria.where("title").is(contest.getTitle())
+                .and("company").is(contest.getCompany())
+                .and("recruit_start").is(contest.getRecruitmentStartDate()));
+    }
+
+    // 값이 없는 (null) 필드는 $set 하지 않아 기존 값 유지, types 와 recruit_end 는 isValid 에서 확인
+    private Update createUpsertUpdate(ImportContestRequestDto contest) {
+        Update update = new Update()
+                .set("types", contest.getTypes())
+                .set("recruit_end", contest.getRecruitmentEndDate())
+                .setOnInsert("team_num", 0);
+        setIfPresent(update, "qualification", contest.getQualification());
+        setIfPresent(update, "full_schedule", contest.getFullSchedule());
+        setIfPresent(update, "price", contest.getPrice());
+        setIfPresent(update, "apply_as", contest.getApplyAs());
+        setIfPresent(update, "description", contest.getDesc());
+        setIfPresent(update, "subject", contest.getSubject());
+        if (contest.getContestImages() != null) {
+            update.set("contest_images", contest.getContestImages());
+        } else {
+            update.setOnInsert("contest_images", new ArrayList<>());
+        }
+        return update;
+    }
+
+    private void setIfPresent(Update update, String key, Object value) {
+        if (value != null) {
+            update.set(key, value);
+        }
+    }
+
+    private void refreshContestCaches() {
+        contestCatalog.refresh();
+        contestSearchEngine.requestRebuild();
+        contestService.invalidateMainRecommendation();
+    }
+
+    private void recordMetrics(ImportResult result, long elapsedNanos) {
+        Timer.builder("contest.import").register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        incrementCounter("inserted", result.insertedCount);
+        incrementCounter("updated", result.updatedCount);
+        incrementCounter("duplicated", result.duplicatedCount);
+        incrementCounter("rejected", result.rejectedCount);
+        incrementCounter("failed", result.failedCount);
+        double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+        log.info("contest import - total {}, inserted {}, updated {}, duplicated {}, rejected {}, failed {}, {} contests/s",
+                result.totalCount, result.insertedCount, result.updatedCount, result.duplicatedCount, result.rejectedCount,
+                result.failedCount, Math.round(result.totalCount / seconds));
+    }
+
+    private void incrementCounter(String resultTag, int count) {
+        Counter.builder("contest.import.contests")
+                .tag("result", resultTag)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private record NaturalKey(String title, String company, LocalDate recruitmentStartDate) {
+
+        private static NaturalKey of(ImportContestRequestDto contest) {
+            return new NaturalKey(contest.getTitle(), contest.getCompany(), contest.getRecruitmentStartDate());
+        }
+    }
+
+    private static final class ImportResult {
+
+        private int totalCount;
+        private int insertedCount;
+        private int updatedCount;
+        private int duplicatedCount;
+        private int rejectedCount;
+        private int failedCount;
+        private final List<Integer> rejectedLines = new ArrayList<>();
+        private final List<Integer> failedLines = new ArrayList<>();
+
+        private void reject(int lineNumber) {
+            rejectedCount++;
+            if (rejectedLines.size() < MAX_REJECTED_LINES) {
+                rejectedLines.add(lineNumber);
+            }
+        }
+
+        private void fail(int lineNumber) {
+            failedCount++;
+            if (failedLines.size() < MAX_REJECTED_LINES) {
+                failedLines.add(lineNumber);
+            }
+        }
+
+        private ImportContestsResponseDto toResponse(long elapsedMillis) {
+            return ImportContestsResponseDto.builder()
+                    .totalCount(totalCount)
+                    .insertedCount(insertedCount)
+                    .updatedCount(updatedCount)
+                    .duplicatedCount(duplicatedCount)
+                    .rejectedCount(rejectedCount)
+                    .rejectedLines(rejectedLines)
+                    .failedCount(failedCount)
+                    .failedLines(failedLines)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+    }
+}
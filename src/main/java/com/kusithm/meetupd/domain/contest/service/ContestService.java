@@ -1,109 +1,150 @@
 package com.kusithm.meetupd.domain.contest.service;
 
 
+import com.kusithm.meetupd.common.cache.StaleWhileRevalidateCache;
+import com.kusithm.meetupd.common.error.BadRequestException;
 import com.kusithm.meetupd.common.error.EntityNotFoundException;
 import com.kusithm.meetupd.common.error.ErrorCode;
+import com.kusithm.meetupd.domain.contest.dto.response.ContestSuggestionResponseDto;
+import com.kusithm.meetupd.domain.contest.dto.response.FindContestsPageResponseDto;
 import com.kusithm.meetupd.domain.contest.dto.response.FindContestsResponseDto;
 import com.kusithm.meetupd.domain.contest.dto.response.GetContestDetailInfoResponseDto;
 import com.kusithm.meetupd.domain.contest.dto.response.GetMainRecommendationResponseDto;
 import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.contest.entity.ContestType;
 import com.kusithm.meetupd.domain.contest.mongo.ContestRepository;
-import com.kusithm.meetupd.domain.review.entity.Review;
-import com.kusithm.meetupd.domain.review.mongo.ReviewRepository;
+import com.kusithm.meetupd.domain.contest.search.ContestSearchEngine;
+import com.kusithm.meetupd.domain.contest.search.ContestSuggestionTrie;
+import com.kusithm.meetupd.domain.review.entity.ReviewCommentStats;
+import com.kusithm.meetupd.domain.review.mongo.ReviewCommentStatsRepository;
 import com.kusithm.meetupd.domain.team.dto.response.RecruitingTeamResponseDto;
 import com.kusithm.meetupd.domain.team.entity.Team;
-import com.kusithm.meetupd.domain.team.entity.TeamUser;
+import com.kusithm.meetupd.domain.team.mysql.TeamMemberId;
 import com.kusithm.meetupd.domain.team.mysql.TeamRepository;
 import com.kusithm.meetupd.domain.team.mysql.TeamUserRepository;
-import com.kusithm.meetupd.domain.user.entity.User;
-import com.mongodb.client.AggregateIterable;
-import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoDatabase;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.bson.Document;
 import org.bson.types.ObjectId;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
 
-import static com.kusithm.meetupd.common.error.ErrorCode.USER_REVIEW_NOT_FOUND;
 import static com.kusithm.meetupd.domain.contest.dto.response.FindContestsResponseDto.createListOf;
+import static com.kusithm.meetupd.domain.team.entity.TeamProgressType.RECRUITING;
 import static com.kusithm.meetupd.domain.team.entity.TeamProgressType.RECRUITMENT_COMPLETED;
-import static com.kusithm.meetupd.domain.team.entity.TeamUserRoleType.TEAM_LEADER;
 
 @RequiredArgsConstructor
 @Service
 public class ContestService {
 
+    private static final int POPULAR_TEAM_COUNT = 4;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final long MAX_SEARCH_OFFSET = Integer.MAX_VALUE - MAX_SEARCH_PAGE_SIZE - 1;   // offset + limit + 1 이 int 범위를 넘지 않도록
+    private static final Duration MAIN_RECOMMENDATION_TTL = Duration.ofSeconds(30);
+
     private final ContestRepository contestRepository;
-    private final ReviewRepository reviewRepository;
+    private final ReviewCommentStatsRepository reviewCommentStatsRepository;
     private final TeamRepository teamRepository;
     private final TeamUserRepository teamUserRepository;
-    private final MongoConverter mongoConverter;
-    private final MongoClient mongoClient;
+    private final ContestSearchEngine contestSearchEngine;
+    private final ContestBatchLoader contestBatchLoader;
+    private final ContestCatalog contestCatalog;
+    private final MeterRegistry meterRegistry;
+
+    private StaleWhileRevalidateCache<GetMainRecommendationResponseDto> mainRecommendationCache;
+
+    // 비로그인 랜딩 페이지 응답, TTL 이 지나도 기존 응답을 주면서 백그라운드에서 갱신
+    @PostConstruct
+    void initMainRecommendationCache() {
+        mainRecommendationCache = new StaleWhileRevalidateCache<>("main-recommendation", MAIN_RECOMMENDATION_TTL, this::loadMainRecommendContestsAndTeams, meterRegistry);
+    }
 
     public List<FindContestsResponseDto> findContestsByCategory(Integer contestType) {
         // 카테고리 전체 조회일 때
         if(isFindAllContest(contestType)) {
-            return findAllContests(LocalDate.now());
+            return contestCatalog.findOpenContests(LocalDate.now());
         }
         else {
-            validContestType(contestType);
-            return findContestsByType(LocalDate.now(), contestType);
+            return contestCatalog.findOpenContests(ContestType.ofCode(contestType), LocalDate.now());
         }
     }
 
     public List<FindContestsResponseDto> findContestsBySearchText(String searchText) {
-        List<Contest> contests = getContestsBySearchText(searchText);
+        List<ContestSummary> contests = contestSearchEngine.search(searchText);
         return createListOf(contests, LocalDate.now());
     }
 
+    // 검색 요청당 메모리를 페이지 크기로 제한 (page 는 1부터), 한 개 더 조회해 다음 페이지 여부 판단
+    public FindContestsPageResponseDto findContestsBySearchText(String searchText, Integer page, Integer size) {
+        if (page < 1 || size < 1) {
+            throw new BadRequestException(ErrorCode.INVALID_PAGE_REQUEST);
+        }
+        int searchSize = Math.min(size, MAX_SEARCH_PAGE_SIZE);
+        int offset = (int) Math.min((long) (page - 1) * searchSize, MAX_SEARCH_OFFSET);
+        List<ContestSummary> contests = contestSearchEngine.search(searchText, offset, searchSize + 1);
+        boolean hasNext = contests.size() > searchSize;
+        return FindContestsPageResponseDto.of(createListOf(hasNext ? contests.subList(0, searchSize) : contests, LocalDate.now()), page, searchSize, hasNext);
+    }
+
+    // 입력할 때마다 호출되므로 DB 조회 없이 카탈로그 스냅샷의 trie 에서만 조회
+    public List<ContestSuggestionResponseDto> suggestContests(String keyword, Integer size) {
+        int suggestionSize = Math.max(1, Math.min(size, ContestSuggestionTrie.MAX_SUGGESTIONS));
+        return contestCatalog.suggest(keyword, suggestionSize, LocalDate.now());
+    }
+
     public GetContestDetailInfoResponseDto getContestDetailById(String contestId) {
         Contest findContest = getContestById(contestId);
-        List<Team> teams = findAllRecuritTeamByContestTitle(contestId);
-        Double averageContestUserComments = 0.0;
-        for (Team team : teams) {
-            averageContestUserComments += getTeamAverageCommentsCount(team);
-        }
-        averageContestUserComments /= teams.size();
+        Double averageContestUserComments = getContestAverageCommentsCount(contestId);
         return GetContestDetailInfoResponseDto.of(findContest, LocalDate.now(),  Math.floor(averageContestUserComments * 10) / 10);
     }
 
     public GetMainRecommendationResponseDto getMainRecommendContestsAndTeams() {
-        List<Contest> recommendationContests = contestRepository.findRecommendationSixContests(LocalDate.now());
-        List<Team> popularTeams = teamRepository.findPopularTeams();
+        return mainRecommendationCache.get();
+    }
+
+    // 인기 팀이 바뀐 경우 (커밋 후), team_num outbox 가 반영된 경우 호출
+    public void invalidateMainRecommendation() {
+        mainRecommendationCache.invalidate();
+    }
+
+    private GetMainRecommendationResponseDto loadMainRecommendContestsAndTeams() {
+        List<ContestSummary> recommendationContests = contestRepository.findRecommendationSixContests(LocalDate.now());
+        List<Team> popularTeams = findPopularTeams();
         List<RecruitingTeamResponseDto> recruitingTeamResponseDtos = createRecruitingTeamResponseDtos(popularTeams);
         return GetMainRecommendationResponseDto.of(recommendationContests, recruitingTeamResponseDtos, LocalDate.now());
     }
 
-    private List<Team> findAllRecuritTeamByContestTitle(String contestId) {
-        return teamRepository.findAllByContestIdAndProgressLessThanEqual(contestId, RECRUITMENT_COMPLETED.getNumber());
+    // 팀원 + 지원자 수가 많은 모집중인 팀 상위 N개
+    private List<Team> findPopularTeams() {
+        Pageable pageable = PageRequest.of(0, POPULAR_TEAM_COUNT, Sort.by(Sort.Order.desc("applicantCount"), Sort.Order.desc("id")));
+        return teamRepository.findAllByProgressAndApplicantCountGreaterThan(RECRUITING.getNumber(), 0, pageable);
     }
 
-    private Double getTeamAverageCommentsCount(Team team) {
-        Double averageTeamUserComments = 0.0;
-        List<TeamUser> teamUsers = team.getTeamUsers();
-        for (TeamUser teamUser : teamUsers) {
-            averageTeamUserComments += getTeamUserCommentCount(teamUser);
+    // 모집 중/모집 완료 팀별 팀원 평균 한줄평 수의 평균 (팀 유저 1회 + 한줄평 통계 1회 조회)
+    private Double getContestAverageCommentsCount(String contestId) {
+        Map<Long, List<Long>> userIdsByTeam = teamUserRepository.findTeamMemberIdsByContestIdAndProgressLessThanEqual(contestId, RECRUITMENT_COMPLETED.getNumber()).stream()
+                .collect(Collectors.groupingBy(TeamMemberId::getTeamId, Collectors.mapping(TeamMemberId::getUserId, Collectors.toList())));
+        if (userIdsByTeam.isEmpty()) {
+            return 0.0;
         }
-        return averageTeamUserComments / teamUsers.size();
+        Map<Long, Integer> commentCounts = findCommentCounts(userIdsByTeam.values().stream().flatMap(List::stream).distinct().toList());
+        return userIdsByTeam.values().stream()
+                .mapToDouble(userIds -> userIds.stream().mapToInt(userId -> commentCounts.getOrDefault(userId, 0)).average().orElse(0.0))
+                .average()
+                .orElse(0.0);
     }
 
-    private Integer getTeamUserCommentCount(TeamUser teamUser) {
-        User user = teamUser.getUser();
-        Review review = findReviewByUserId(user);
-        return review.getReviewComments().size();
-    }
-
-    private Review findReviewByUserId(User user) {
-        return reviewRepository.findByUserId(user.getId())
-                .orElseThrow(()-> new EntityNotFoundException(USER_REVIEW_NOT_FOUND));
+    private Map<Long, Integer> findCommentCounts(List<Long> userIds) {
+        return reviewCommentStatsRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(ReviewCommentStats::getUserId, ReviewCommentStats::getCommentCount));
     }
 
     public List<Contest> findRecruitEndContests() {
@@ -116,73 +157,20 @@ public class ContestService {
         return contestRepository.findAllEndContestsToday(startDate, endDate);
     }
 
-    private List<Contest> getContestsBySearchText(String searchText) {
-        MongoDatabase database = mongoClient.getDatabase("wanteam-db");
-        MongoCollection<Document> collection = database.getCollection("contest");
-        return searchContestByText(searchText, collection);
-    }
-
-    private List<Contest> searchContestByText(String searchText, MongoCollection<Document> collection) {
-        AggregateIterable<Document> result = collection.aggregate(Arrays.asList(
-                new Document("$search",
-                        new Document("index", "wanteam-db-contest")
-                                .append("text", new Document("query", searchText)
-                                        .append("path", new Document("wildcard", "*"))))));
-
-        List<Contest> contests = new ArrayList<>();
-        result.forEach(doc -> contests.add(mongoConverter.read(Contest.class, doc)));
-        return contests;
-    }
-
     private List<RecruitingTeamResponseDto> createRecruitingTeamResponseDtos(List<Team> popularTeams) {
-        List<RecruitingTeamResponseDto> recruitingTeamResponseDtos = new ArrayList<>();
-        for (Team popularTeam : popularTeams) {
-            Contest teamContest = getContestById(popularTeam.getContestId());
-            for (TeamUser teamuser : popularTeam.getTeamUsers()) {
-                if (teamuser.getRole().equals(TEAM_LEADER.getCode())) {
-                    recruitingTeamResponseDtos.add(
-                            new RecruitingTeamResponseDto(teamContest,
-                                    popularTeam,
-                                    teamuser.getUser())
-                    );
-                }
-            }
-        }
-        if (recruitingTeamResponseDtos.size() > 4) {
-            recruitingTeamResponseDtos = recruitingTeamResponseDtos.subList(0, 4);
+        List<RecruitingTeamResponseDto> recruitingTeamResponseDtos = RecruitingTeamResponseDto.createListOf(popularTeams,
+                contestBatchLoader.loadContests(popularTeams.stream().map(Team::getContestId).toList()),
+                teamUserRepository.findTeamLeadersByTeams(popularTeams));
+        if (recruitingTeamResponseDtos.size() > POPULAR_TEAM_COUNT) {
+            recruitingTeamResponseDtos = recruitingTeamResponseDtos.subList(0, POPULAR_TEAM_COUNT);
         }
         return recruitingTeamResponseDtos;
     }
 
-    private List<FindContestsResponseDto> findAllContests(LocalDate nowDate) {
-        List<Contest> findContests = findContestsByDate(nowDate);
-        return createListOf(findContests, nowDate);
-    }
-
-    private List<FindContestsResponseDto> findContestsByType(LocalDate nowDate, Integer contestType) {
-        List<Contest> findContests = findTypeContestsByDate(nowDate, contestType);
-        return createListOf(findContests, nowDate);
-    }
-
-    private List<Contest> findContestsByDate(LocalDate nowDate) {
-        return contestRepository.findAllContestsByDate(nowDate);
-
-    }
-
-
-    private List<Contest> findTypeContestsByDate(LocalDate nowDate, Integer contentType) {
-        return contestRepository.findContestsByDateAndType(nowDate, contentType);
-
-    }
-
     private Boolean isFindAllContest(Integer contestType){
         return contestType.equals(0);
     }
 
-    private void validContestType(Integer contestType) {
-        ContestType.ofCode(contestType);
-    }
-
     private Contest getContestById(String contestId) {
         return contestRepository.findContestById(new ObjectId(contestId))
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CONTEST_NOT_FOUND));
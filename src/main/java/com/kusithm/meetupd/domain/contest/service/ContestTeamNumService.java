@@ -0,0 +1,128 @@
+package com.kusithm.meetupd.domain.contest.service;
+
+import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestTeamNumOutbox;
+import com.kusithm.meetupd.domain.contest.mysql.ContestTeamNumOutboxRepository;
+import com.kusithm.meetupd.domain.team.mysql.ContestTeamCount;
+import com.kusithm.meetupd.domain.team.mysql.TeamRepository;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.kusithm.meetupd.domain.team.entity.TeamProgressType.RECRUITING;
+
+@Service
+@RequiredArgsConstructor
+public class ContestTeamNumService {
+
+    private static final int FLUSH_BATCH_SIZE = 1000;
+    private static final String FLUSH_SEQUENCE_COLLECTION = "sequence";
+    private static final String FLUSH_SEQUENCE_ID = "contest-team-num-flush";
+
+    private final ContestTeamNumOutboxRepository contestTeamNumOutboxRepository;
+    private final TeamRepository teamRepository;
+    private final MongoTemplate mongoTemplate;
+
+    // 팀 트랜잭션 안에서만 기록, 팀 변경이 롤백되면 증감도 같이 롤백
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDelta(String contestId, int delta) {
+        contestTeamNumOutboxRepository.save(ContestTeamNumOutbox.of(contestId, delta));
+    }
+
+    // 커밋된 증감을 flush id 로 표시한 뒤 공모전별로 합쳐 한 번의 bulkWrite 로 반영하고 outbox 에서 삭제, team_num 이 바뀐 공모전 id 반환
+    // 반영 도중 멈추면 다음 flush 가 남은 증감을 같은 flush id 로 다시 보내고, team_num_flush_id 가 그보다 작은 공모전에만 반영되어 두 번 더해지지 않음
+    public Set<String> flush() {
+        Long flushId = contestTeamNumOutboxRepository.findFirstByFlushIdIsNotNullOrderByIdAsc()
+                .map(ContestTeamNumOutbox::getFlushId)
+                .orElseGet(this::claimOutboxes);
+        if (flushId == null) {
+            return Collections.emptySet();
+        }
+        Map<String, Integer> deltas = contestTeamNumOutboxRepository.findAllByFlushId(flushId).stream()
+                .collect(Collectors.groupingBy(ContestTeamNumOutbox::getContestId, Collectors.summingInt(ContestTeamNumOutbox::getDelta)));
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Contest.class);
+        deltas.forEach((contestId, delta) -> {
+            if (delta != 0) {
+                bulkOperations.updateOne(createFindNotAppliedContestQuery(contestId, flushId),
+                        new Update().inc("team_num", delta).set("team_num_flush_id", flushId));
+            }
+        });
+        if (deltas.values().stream().anyMatch(delta -> delta != 0)) {
+            bulkOperations.execute();
+        }
+        contestTeamNumOutboxRepository.deleteAllByFlushId(flushId);
+        return deltas.keySet();
+    }
+
+    // 아직 잡히지 않은 증감을 새 flush id 로 표시, 반영할 증감이 없으면 null
+    private Long claimOutboxes() {
+        List<Long> outboxIds = contestTeamNumOutboxRepository.findAllByFlushIdIsNullOrderByIdAsc(PageRequest.of(0, FLUSH_BATCH_SIZE)).stream()
+                .map(ContestTeamNumOutbox::getId)
+                .toList();
+        if (outboxIds.isEmpty()) {
+            return null;
+        }
+        long flushId = nextFlushId();
+        contestTeamNumOutboxRepository.claimForFlush(outboxIds, flushId);
+        return flushId;
+    }
+
+    // 늦게 커밋된 outbox 도 더 큰 flush id 로 반영되도록 outbox id 대신 Mongo 의 증가 시퀀스 사용
+    private long nextFlushId() {
+        Document sequence = mongoTemplate.getCollection(FLUSH_SEQUENCE_COLLECTION).findOneAndUpdate(
+                new Document("_id", FLUSH_SEQUENCE_ID),
+                new Document("$inc", new Document("value", 1L)),
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+        return sequence.getLong("value");
+    }
+
+    // 모집 중인 팀 수로 team_num 을 다시 계산
+    // 같은 스냅샷에서 읽은 outbox 는 집계에 이미 포함되어 있으므로 함께 삭제, 이후 커밋된 증감은 flush 로 반영
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcile() {
+        List<ContestTeamCount> contestTeamCounts = teamRepository.countGroupByContestIdAndProgress(RECRUITING.getNumber());
+        List<ContestTeamNumOutbox> reflectedOutboxes = contestTeamNumOutboxRepository.findAll();
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Contest.class);
+        List<ObjectId> countedContestIds = contestTeamCounts.stream()
+                .map(contestTeamCount -> new ObjectId(contestTeamCount.getContestId()))
+                .toList();
+        contestTeamCounts.forEach(contestTeamCount -> bulkOperations.updateOne(
+                createFindContestByIdQuery(contestTeamCount.getContestId()),
+                new Update().set("team_num", contestTeamCount.getTeamCount().intValue())));
+        bulkOperations.updateMulti(
+                new Query(Criteria.where("_id").nin(countedContestIds).and("team_num").ne(0)),
+                new Update().set("team_num", 0));
+        bulkOperations.execute();
+
+        contestTeamNumOutboxRepository.deleteAllInBatch(reflectedOutboxes);
+        return contestTeamCounts.size();
+    }
+
+    private Query createFindContestByIdQuery(String contestId) {
+        return new Query(Criteria.where("_id").is(new ObjectId(contestId)));
+    }
+
+    // 같은 flush 가 이미 반영되었으면 (team_num_flush_id >= flushId) 아무 document 도 매칭되지 않음
+    private Query createFindNotAppliedContestQuery(String contestId, long flushId) {
+        return new Query(Criteria.where("_id").is(new ObjectId(contestId)).and("teamNumFlushId").not().gte(flushId));
+    }
+}
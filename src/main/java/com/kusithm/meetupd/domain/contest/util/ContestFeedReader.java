@@ -0,0 +1,209 @@
+package com.kusithm.meetupd.domain.contest.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kusithm.meetupd.common.error.BadRequestException;
+import com.kusithm.meetupd.domain.contest.dto.request.ImportContestRequestDto;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.kusithm.meetupd.common.error.ErrorCode.INVALID_CONTEST_IMPORT_FILE;
+
+/**
+ * 공모전 일괄 등록 파일을 한 건씩 읽는 reader (파일 전체를 메모리에 올리지 않음)
+ * JSON lines: 한 줄에 contest 컬렉션 필드명을 가진 JSON 하나
+ * CSV: 첫 줄은 헤더(필드명), 목록 필드(types, contest_images)는 '|' 로 구분, 따옴표 안의 줄바꿈 허용
+ * 형식이 잘못된 줄은 contest 가 null 인 레코드로 돌려주고 계속 읽는다.
+ */
+public class ContestFeedReader implements Closeable {
+
+    private static final String LIST_DELIMITER = "\\|";
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+
+    private int lineNumber;
+    private Map<String, Integer> csvHeader;
+
+    public ContestFeedReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // 더 읽을 줄이 없으면 null
+    public Record next() throws IOException {
+        return format == Format.CSV ? nextCsv() : nextJsonLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Record nextJsonLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        try {
+            return new Record(lineNumber, objectMapper.readValue(line, ImportContestRequestDto.class));
+        } catch (JsonProcessingException e) {
+            return new Record(lineNumber, null);
+        }
+    }
+
+    private Record nextCsv() throws IOException {
+        if (csvHeader == null) {
+            csvHeader = readCsvHeader();
+        }
+        int recordLineNumber;
+        List<String> values;
+        do {
+            recordLineNumber = lineNumber + 1;
+            values = readCsvValues();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+        try {
+            return new Record(recordLineNumber, toRequestDto(values));
+        } catch (NumberFormatException | DateTimeException | IndexOutOfBoundsException e) {
+            return new Record(recordLineNumber, null);
+        }
+    }
+
+    private Map<String, Integer> readCsvHeader() throws IOException {
+        List<String> columns = readCsvValues();
+        if (columns == null) {
+            throw new BadRequestException(INVALID_CONTEST_IMPORT_FILE);
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(columns.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.containsKey("title") || !header.containsKey("company") || !header.containsKey("recruit_start")) {
+            throw new BadRequestException(INVALID_CONTEST_IMPORT_FILE);
+        }
+        return header;
+    }
+
+    private ImportContestRequestDto toRequestDto(List<String> values) {
+        return ImportContestRequestDto.builder()
+                .title(csvValue(values, "title"))
+                .company(csvValue(values, "company"))
+                .types(splitList(csvValue(values, "types")).stream().map(Integer::valueOf).toList())
+                .recruitmentStartDate(parseDate(csvValue(values, "recruit_start")))
+                .recruitmentEndDate(parseDate(csvValue(values, "recruit_end")))
+                .qualification(csvValue(values, "qualification"))
+                .fullSchedule(csvValue(values, "full_schedule"))
+                .price(csvValue(values, "price"))
+                .applyAs(csvValue(values, "apply_as"))
+                .desc(csvValue(values, "description"))
+                .contestImages(splitListOrNull(csvValue(values, "contest_images")))
+                .subject(csvValue(values, "subject"))
+                .build();
+    }
+
+    private String csvValue(List<String> values, String column) {
+        Integer index = csvHeader.get(column);
+        if (index == null || index >= values.size() || values.get(index).isBlank()) {
+            return null;
+        }
+        return values.get(index).strip();
+    }
+
+    private List<String> splitList(String value) {
+        if (value == null) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(LIST_DELIMITER))
+                .map(String::strip)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    // 비어 있는 열은 기존 값을 지우지 않도록 빈 리스트 대신 null
+    private List<String> splitListOrNull(String value) {
+        return value == null ? null : splitList(value);
+    }
+
+    private LocalDate parseDate(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    // RFC 4180 형식의 레코드 하나, 따옴표 안의 쉼표/줄바꿈/"" 처리
+    private List<String> readCsvValues() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        lineNumber++;
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        value.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    value.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                value.append(ch);
+            }
+            c = reader.read();
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    public enum Format {
+        JSON_LINES, CSV;
+
+        public static Format ofFileName(String fileName) {
+            if (fileName == null) {
+                throw new BadRequestException(INVALID_CONTEST_IMPORT_FILE);
+            }
+            String lowerFileName = fileName.toLowerCase(Locale.ROOT);
+            if (lowerFileName.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lowerFileName.endsWith(".jsonl") || lowerFileName.endsWith(".ndjson")) {
+                return JSON_LINES;
+            }
+            throw new BadRequestException(INVALID_CONTEST_IMPORT_FILE);
+        }
+    }
+
+    // contest 가 null 이면 해당 줄을 읽지 못한 것
+    public record Record(int lineNumber, ImportContestRequestDto contest) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.kusithm.meetupd.domain.email.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class EndTeamEmailDto {
+
+    private String toEmail; //팀장, 팀원 이메일
+    private String teamName; //활동이 종료된 공모전 이름
+
+    public static EndTeamEmailDto of(String toEmail, String teamName) {
+        return EndTeamEmailDto.builder()
+                .toEmail(toEmail)
+                .teamName(teamName)
+                .build();
+    }
+}
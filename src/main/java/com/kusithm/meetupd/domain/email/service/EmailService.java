@@ -1,9 +1,11 @@
 package com.kusithm.meetupd.domain.email.service;
 
+import com.kusithm.meetupd.domain.email.dto.EndTeamEmailDto;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -11,7 +13,9 @@ import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.io.UnsupportedEncodingException;
+import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
@@ -26,6 +30,18 @@ public class EmailService {
         emailSender.send(emailForm);
     }
 
+    // 한 요청에서 받은 추천사 알림을 한 번에 비동기 발송, 한 명이 실패해도 나머지는 발송
+    @Async
+    public void sendReceivedReviewEmails(List<String> toEmails, String teamName) {
+        for (String toEmail : toEmails) {
+            try {
+                emailSender.send(createReceivedReviewEmailForm(toEmail, teamName));
+            } catch (Exception e) {
+                log.error("sendReceivedReviewEmails failed - {}", toEmail, e);
+            }
+        }
+    }
+
     @Async
     public void sendJoinTeamEmail(String toEmail, String teamName, String kakaoUrl) throws MessagingException, UnsupportedEncodingException {
         MimeMessage emailForm = createJoinTeamEmailForm(toEmail, teamName, kakaoUrl);
@@ -38,6 +54,18 @@ public class EmailService {
         emailSender.send(emailForm);
     }
 
+    // 팀 종료 배치에서 청크 단위로 한 번에 전송, 한 명 실패해도 나머지는 전송
+    @Async
+    public void sendEndTeamEmails(List<EndTeamEmailDto> endTeamEmails) {
+        for (EndTeamEmailDto endTeamEmail : endTeamEmails) {
+            try {
+                emailSender.send(createEndTeamEmailForm(endTeamEmail.getToEmail(), endTeamEmail.getTeamName()));
+            } catch (Exception e) {
+                log.error("sendEndTeamEmails failed - {}", endTeamEmail.getToEmail(), e);
+            }
+        }
+    }
+
     private MimeMessage createReceivedReviewEmailForm(String toEmail, String teamName) throws MessagingException, UnsupportedEncodingException {
         String setFrom = "ojy09293@gmail.com";
         String title = "[Wanteam] 신규 추천사 등록 안내";
@@ -29,6 +29,15 @@ public class ReviewController {
         return SuccessResponse.of(response);
     }
 
+    // 유저가 받은 한줄평 목록 API (최신순 커서 페이징)
+    @GetMapping("/comments/{userId}")
+    public ResponseEntity<SuccessResponse<GetReviewCommentsResponseDto>> getUserReviewComments(@PathVariable Long userId,
+                                                                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                               @RequestParam(value = "size", required = false, defaultValue = "10") Integer size) {
+        GetReviewCommentsResponseDto response = reviewService.getUserReviewComments(userId, cursor, size);
+        return SuccessResponse.of(response);
+    }
+
     // 회원 리뷰 작성 API
     @PostMapping("")
     public ResponseEntity<SuccessResponse<UploadReviewResponseDto>> uploadRecommendation(@UserId Long userId, @RequestBody UploadReviewRequestDto request) throws MessagingException, UnsupportedEncodingException {
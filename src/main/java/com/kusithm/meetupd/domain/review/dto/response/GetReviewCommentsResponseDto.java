@@ -0,0 +1,26 @@
+package com.kusithm.meetupd.domain.review.dto.response;
+
+import com.kusithm.meetupd.domain.review.dto.response.GetUserReviewResponseDto.CommentsResponseDto;
+import com.kusithm.meetupd.domain.review.entity.inner.ReviewComment;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.kusithm.meetupd.domain.review.dto.response.GetUserReviewResponseDto.CommentsResponseDto.createCommentsResponseDtos;
+
+@Getter
+@Builder
+public class GetReviewCommentsResponseDto {
+
+    private List<CommentsResponseDto> comments;     // 최신순
+
+    private String nextCursor;  // 다음 페이지 커서, 마지막 페이지면 null
+
+    public static GetReviewCommentsResponseDto of(List<ReviewComment> comments, String nextCursor) {
+        return GetReviewCommentsResponseDto.builder()
+                .comments(createCommentsResponseDtos(comments))
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
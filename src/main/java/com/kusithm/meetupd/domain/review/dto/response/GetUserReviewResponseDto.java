@@ -1,15 +1,12 @@
 package com.kusithm.meetupd.domain.review.dto.response;
 
-import com.kusithm.meetupd.domain.review.entity.Review;
+import com.kusithm.meetupd.domain.review.entity.ReviewSummary;
 import com.kusithm.meetupd.domain.review.entity.inner.ReviewChoice;
 import com.kusithm.meetupd.domain.review.entity.inner.ReviewComment;
-import com.kusithm.meetupd.domain.review.entity.inner.ReviewTeamCulture;
-import com.kusithm.meetupd.domain.review.entity.inner.ReviewWorkMethod;
-import com.kusithm.meetupd.domain.review.util.ListComparatorKeywordCount;
+import com.kusithm.meetupd.domain.review.entity.inner.ReviewPercent;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,15 +26,19 @@ public class GetUserReviewResponseDto {
 
     private List<WorkMethodResponseDto> workMethods;
 
-    private List<CommentsResponseDto> comments;
+    private List<CommentsResponseDto> comments;     // 최근 한줄평 (전체는 한줄평 목록 API)
 
-    public static GetUserReviewResponseDto of(Review review) {
+    private Integer commentCount;
+
+    // 미리 계산된 요약으로 응답, 정렬/비율 계산 없음
+    public static GetUserReviewResponseDto of(ReviewSummary summary) {
         return GetUserReviewResponseDto.builder()
-                .userId(review.getUserId())
-                .keywords(KeywordResponseDto.createKeywordResponseDtos(review.getMultipleChoices()))
-                .teamCultures(createTeamCultureResponseDtos(review.getTeamCultures()))
-                .workMethods(createWorkMethodResponseDtos(review.getWorkMethods()))
-                .comments(createCommentsResponseDtos(review.getReviewComments()))
+                .userId(summary.getUserId())
+                .keywords(KeywordResponseDto.createKeywordResponseDtos(summary.getKeywords()))
+                .teamCultures(createTeamCultureResponseDtos(summary.getTeamCultures()))
+                .workMethods(createWorkMethodResponseDtos(summary.getWorkMethods()))
+                .comments(createCommentsResponseDtos(summary.getRecentComments()))
+                .commentCount(summary.getCommentCount())
                 .build();
 
     }
@@ -57,19 +58,11 @@ public class GetUserReviewResponseDto {
                     .build();
         }
 
-        public static List<KeywordResponseDto> createKeywordResponseDtos(List<ReviewChoice> reviewChoices) {
-            reviewChoices.sort(new ListComparatorKeywordCount());
-
-            List<KeywordResponseDto> keywordResponseDtos = new ArrayList<>();
-            /**
-             * 상위 count 5개 뽑는데 0개는 무시하고 뽑기
-             */
-            for(int i =0; i < 5; i++) {
-                if(reviewChoices.get(i).getCount() == 0) break;
-                keywordResponseDtos.add(KeywordResponseDto.of(reviewChoices.get(i)));
-            }
-
-            return keywordResponseDtos;
+        // 요약에 이미 상위 5개만 count 순으로 저장되어 있음
+        public static List<KeywordResponseDto> createKeywordResponseDtos(List<ReviewChoice> topKeywords) {
+            return topKeywords.stream()
+                    .map(KeywordResponseDto::of)
+                    .collect(Collectors.toList());
         }
     }
 
@@ -81,22 +74,18 @@ public class GetUserReviewResponseDto {
 
         private Integer percent;
 
-        public static TeamCultureResponseDto of(ReviewTeamCulture teamCulture) {
+        public static TeamCultureResponseDto of(ReviewPercent teamCulture) {
             return TeamCultureResponseDto.builder()
-                    .teamCultureType(teamCulture.getCultureQuestionType())
-                    .percent(getPercent(teamCulture))
+                    .teamCultureType(teamCulture.getType())
+                    .percent(teamCulture.getPercent())
                     .build();
         }
 
-        public static List<TeamCultureResponseDto> createTeamCultureResponseDtos(List<ReviewTeamCulture> teamCultures) {
+        public static List<TeamCultureResponseDto> createTeamCultureResponseDtos(List<ReviewPercent> teamCultures) {
             return teamCultures.stream()
                     .map(TeamCultureResponseDto::of)
                     .collect(Collectors.toList());
         }
-
-        private static Integer getPercent(ReviewTeamCulture teamCulture){
-            return (int) (teamCulture.getRightCount()/(double)(teamCulture.getLeftCount() + teamCulture.getRightCount()) * 100);
-        }
     }
 
     @Getter
@@ -107,21 +96,18 @@ public class GetUserReviewResponseDto {
 
         private Integer percent;
 
-        public static WorkMethodResponseDto of(ReviewWorkMethod workMethod) {
+        public static WorkMethodResponseDto of(ReviewPercent workMethod) {
             return WorkMethodResponseDto.builder()
-                    .workMethodType(workMethod.getWorkQuestionType())
-                    .percent(getPercent(workMethod))
+                    .workMethodType(workMethod.getType())
+                    .percent(workMethod.getPercent())
                     .build();
         }
 
-        public static List<WorkMethodResponseDto> createWorkMethodResponseDtos (List<ReviewWorkMethod> workMethods) {
+        public static List<WorkMethodResponseDto> createWorkMethodResponseDtos (List<ReviewPercent> workMethods) {
             return workMethods.stream()
                     .map(WorkMethodResponseDto::of)
                     .collect(Collectors.toList());
         }
-        private static Integer getPercent(ReviewWorkMethod workMethod){
-            return (int) (workMethod.getRightCount()/(double)(workMethod.getLeftCount() + workMethod.getRightCount()) * 100);
-        }
     }
 
     @Getter
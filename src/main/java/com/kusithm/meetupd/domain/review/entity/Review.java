@@ -43,6 +43,16 @@ public class Review {
     @Builder.Default
     private List<ReviewWorkMethod> workMethods = ReviewWorkMethod.initRecommendationWorkMethod();   // 작업 방식 객관식
 
+    @Field(name = "revision")
+    @Builder.Default
+    private Long revision = 0L;     // 추천사가 바뀔 때마다 1씩 증가, 요약(ReviewSummary) 갱신 순서 판단
+
+    @Field(name = "tally_flush_id")
+    private Long tallyFlushId;      // write-behind 모드에서 마지막으로 반영한 Redis flush id, 같은 flush 를 두 번 반영하지 않도록
+
+    @Field(name = "essay_bucket_count")
+    private Integer essayBucketCount;   // essays 에서 버킷으로 옮긴 버킷 수, 다음에 옮길 버킷의 순번
+
     public static Review creatEmptyReview(Long userId) {
         return Review.builder()
                 .userId(userId)
@@ -52,4 +62,16 @@ public class Review {
     public void incKeyWordCount(Integer keywordPosition) {
         multipleChoices.get(keywordPosition).increaseCount();
     }
+
+    // "multiple_chocies.3.count", "team_cultures.0.left_count" 형태의 $inc 필드 경로로 조회한 count 에 증가량을 더함
+    public void increaseCount(String fieldPath, int count) {
+        String[] path = fieldPath.split("\\.");
+        int index = Integer.parseInt(path[1]);
+        switch (path[0]) {
+            case "multiple_chocies" -> multipleChoices.get(index).increaseCount(count);
+            case "team_cultures" -> teamCultures.get(index).increaseCount(path[2], count);
+            case "work_methods" -> workMethods.get(index).increaseCount(path[2], count);
+            default -> throw new IllegalArgumentException(fieldPath);
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.kusithm.meetupd.domain.review.entity;
+
+import com.kusithm.meetupd.domain.review.entity.inner.ReviewComment;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 유저가 받은 한줄평을 BUCKET_SIZE 개씩 나눠 담는 document, _id(ObjectId) 순서가 버킷 순서이고 버킷 안에서는 오래된 순
+// essays 에서 옮겨 온 버킷은 _id 의 시각 자리에 버킷 순번을 넣어 새로 만들어진 버킷보다 항상 앞에 옴
+@Getter
+@Builder
+@Document(collection = "review_comment_bucket")
+public class ReviewCommentBucket {
+
+    public static final int BUCKET_SIZE = 50;
+
+    @Id
+    @Field(name = "_id")
+    private String id;
+
+    @Field(name = "user_id")
+    private Long userId;   // 유저 아이디
+
+    @Field(name = "count")
+    private Integer count;  // comments 길이, BUCKET_SIZE 가 되면 새 버킷에 추가
+
+    @Field(name = "closed")
+    private Boolean closed; // true 면 더 이상 추가하지 않음 (가득 찬 버킷, essays 에서 옮겨 온 버킷), 유저당 false 는 하나뿐
+
+    @Field(name = "comments")
+    @Builder.Default
+    private List<ReviewComment> comments = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.kusithm.meetupd.domain.review.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+// 유저별 받은 한줄평 수, 추천사 document 를 통째로 읽지 않고 공모전 평균 한줄평 수 계산
+@Getter
+@Builder
+@Document(collection = "review_comment_stats")
+public class ReviewCommentStats {
+
+    @Id
+    @Field(name = "_id")
+    private Long userId;   // 유저 아이디
+
+    @Field(name = "comment_count")
+    private Integer commentCount;   // 받은 한줄평 수
+
+    @Field(name = "backfilled")
+    private Boolean backfilled;     // 통계 추가 전 한줄평 수를 더했는지, backfill 재실행 시 중복 방지
+}
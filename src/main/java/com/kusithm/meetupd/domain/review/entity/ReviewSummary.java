@@ -0,0 +1,73 @@
+package com.kusithm.meetupd.domain.review.entity;
+
+import com.kusithm.meetupd.domain.review.entity.inner.ReviewChoice;
+import com.kusithm.meetupd.domain.review.entity.inner.ReviewComment;
+import com.kusithm.meetupd.domain.review.entity.inner.ReviewPercent;
+import com.kusithm.meetupd.domain.review.util.ListComparatorKeywordCount;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// 유저 추천사 조회용 요약, 추천사가 바뀔 때마다 다시 계산해 저장 (한줄평 전체 대신 최근 것만)
+@Getter
+@Builder
+@Document(collection = "review_summary")
+public class ReviewSummary {
+
+    public static final int TOP_KEYWORD_COUNT = 5;
+    public static final int RECENT_COMMENT_COUNT = 5;
+
+    @Id
+    @Field(name = "_id")
+    private Long userId;   // 유저 아이디
+
+    @Field(name = "revision")
+    private Long revision;  // 요약을 만든 추천사 revision, 더 오래된 요약으로 덮어쓰지 않도록 (write-behind 증가량은 flush 때 증가)
+
+    @Field(name = "keywords")
+    private List<ReviewChoice> keywords;    // count 상위 5개 (0개 제외)
+
+    @Field(name = "team_cultures")
+    private List<ReviewPercent> teamCultures;
+
+    @Field(name = "work_methods")
+    private List<ReviewPercent> workMethods;
+
+    @Field(name = "recent_comments")
+    private List<ReviewComment> recentComments;
+
+    @Field(name = "comment_count")
+    private Integer commentCount;   // review_comment_stats 의 받은 한줄평 수
+
+    // review 의 essays 는 읽지 않음, 최근 한줄평은 버킷에서 최신순으로 조회한 것
+    public static ReviewSummary of(Review review, List<ReviewComment> recentComments, int commentCount) {
+        return ReviewSummary.builder()
+                .userId(review.getUserId())
+                .revision(Objects.requireNonNullElse(review.getRevision(), 0L))
+                .keywords(createTopKeywords(review.getMultipleChoices()))
+                .teamCultures(review.getTeamCultures().stream()
+                        .map(teamCulture -> ReviewPercent.of(teamCulture.getCultureQuestionType(), teamCulture.getLeftCount(), teamCulture.getRightCount()))
+                        .toList())
+                .workMethods(review.getWorkMethods().stream()
+                        .map(workMethod -> ReviewPercent.of(workMethod.getWorkQuestionType(), workMethod.getLeftCount(), workMethod.getRightCount()))
+                        .toList())
+                .recentComments(recentComments)
+                .commentCount(commentCount)
+                .build();
+    }
+
+    private static List<ReviewChoice> createTopKeywords(List<ReviewChoice> reviewChoices) {
+        List<ReviewChoice> sortedChoices = new ArrayList<>(reviewChoices);
+        sortedChoices.sort(new ListComparatorKeywordCount());
+        return sortedChoices.stream()
+                .limit(TOP_KEYWORD_COUNT)
+                .filter(reviewChoice -> reviewChoice.getCount() > 0)
+                .toList();
+    }
+}
@@ -37,4 +37,8 @@ public class ReviewChoice {
     public void increaseCount() {
         this.count += 1;
     }
+
+    public void increaseCount(int count) {
+        this.count += count;
+    }
 }
@@ -0,0 +1,24 @@
+package com.kusithm.meetupd.domain.review.entity.inner;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+// 팀문화/작업방식 문항별 오른쪽 선택지 비율 (추천사 요약용)
+@Builder
+@Getter
+public class ReviewPercent {
+
+    @Field(name = "type")
+    private Integer type;
+
+    @Field(name = "percent")
+    private Integer percent;
+
+    public static ReviewPercent of(Integer type, Integer leftCount, Integer rightCount) {
+        return ReviewPercent.builder()
+                .type(type)
+                .percent((int) (rightCount / (double) (leftCount + rightCount) * 100))
+                .build();
+    }
+}
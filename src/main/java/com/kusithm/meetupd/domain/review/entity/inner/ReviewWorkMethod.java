@@ -34,4 +34,13 @@ public class ReviewWorkMethod {
                 .toList();
         return initRecommendationWorkMethods;
     }
+
+    // countField 는 left_count 또는 right_count
+    public void increaseCount(String countField, int count) {
+        if ("left_count".equals(countField)) {
+            this.leftCount += count;
+        } else {
+            this.rightCount += count;
+        }
+    }
 }
@@ -0,0 +1,7 @@
+package com.kusithm.meetupd.domain.review.mongo;
+
+import com.kusithm.meetupd.domain.review.entity.ReviewCommentStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ReviewCommentStatsRepository extends MongoRepository<ReviewCommentStats, Long> {
+}
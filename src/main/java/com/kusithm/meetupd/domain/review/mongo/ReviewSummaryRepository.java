@@ -0,0 +1,7 @@
+package com.kusithm.meetupd.domain.review.mongo;
+
+import com.kusithm.meetupd.domain.review.entity.ReviewSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ReviewSummaryRepository extends MongoRepository<ReviewSummary, Long> {
+}
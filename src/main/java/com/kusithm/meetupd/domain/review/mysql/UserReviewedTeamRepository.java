@@ -3,7 +3,14 @@ package com.kusithm.meetupd.domain.review.mysql;
 import com.kusithm.meetupd.domain.review.entity.UserReviewedTeam;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserReviewedTeamRepository extends JpaRepository<UserReviewedTeam, Long> {
 
     Boolean existsByUserIdAndTeamId(Long userId, Long teamId);
+
+    List<UserReviewedTeam> findAllByUserIdAndTeamIdIn(Long userId, Collection<Long> teamIds);
+
+    List<UserReviewedTeam> findAllByUserIdInAndTeamId(Collection<Long> userIds, Long teamId);
 }
@@ -0,0 +1,42 @@
+package com.kusithm.meetupd.domain.review.scheduler;
+
+import com.kusithm.meetupd.common.redis.lock.RedisLeaseLock;
+import com.kusithm.meetupd.domain.review.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReviewScheduler {
+
+    private final ReviewService reviewService;
+    private final RedisLeaseLock redisLeaseLock;
+
+    private static final String REVIEW_COMMENT_STATS_LOCK = "review-comment-stats-backfill";
+    private static final Duration REVIEW_COMMENT_STATS_LOCK_LEASE = Duration.ofMinutes(1);
+    private static final String REVIEW_COMMENT_MIGRATION_LOCK = "review-comment-bucket-migration";
+    private static final Duration REVIEW_COMMENT_MIGRATION_LOCK_LEASE = Duration.ofMinutes(10);
+
+    // 배포 직후, 유저별 한줄평 수 통계가 채워지지 않았으면 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReviewCommentStats() {
+        redisLeaseLock.runWithLock(REVIEW_COMMENT_STATS_LOCK, REVIEW_COMMENT_STATS_LOCK_LEASE, lockToken -> {
+            boolean backfilled = reviewService.backfillReviewCommentStats();
+            log.info("backfillReviewCommentStats - backfilled {}", backfilled);
+        });
+        // 통계 backfill 이 essays 를 읽으므로 끝난 뒤에만 한줄평을 버킷으로 옮김 (다른 인스턴스가 backfill 중이면 그 인스턴스가 이어서 옮김)
+        if(!reviewService.isReviewCommentStatsBackfilled()) {
+            return;
+        }
+        redisLeaseLock.runWithLock(REVIEW_COMMENT_MIGRATION_LOCK, REVIEW_COMMENT_MIGRATION_LOCK_LEASE, lockToken -> {
+            int migrated = reviewService.migrateReviewComments();
+            log.info("migrateReviewComments - users {}", migrated);
+        });
+    }
+}
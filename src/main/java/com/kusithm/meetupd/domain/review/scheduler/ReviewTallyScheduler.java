@@ -0,0 +1,38 @@
+package com.kusithm.meetupd.domain.review.scheduler;
+
+import com.kusithm.meetupd.common.redis.lock.RedisLeaseLock;
+import com.kusithm.meetupd.domain.review.service.ReviewSummaryService;
+import com.kusithm.meetupd.domain.review.tally.ReviewTallyRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReviewTallyScheduler {
+
+    private final ReviewTallyRecorder reviewTallyRecorder;
+    private final ReviewSummaryService reviewSummaryService;
+    private final RedisLeaseLock redisLeaseLock;
+
+    private static final String REVIEW_TALLY_LOCK = "review-tally-flush";
+    private static final Duration REVIEW_TALLY_LOCK_LEASE = Duration.ofSeconds(30);
+
+    // Redis 에 모아 둔 추천사 객관식 count 를 주기적으로 Mongo 에 반영하고, 반영된 유저의 요약 갱신
+    // direct 모드로 바꾼 뒤에도 남은 증가량이 빠지지 않도록 모드와 관계없이 실행
+    @Scheduled(fixedDelay = 5000)
+    public void scheduleTaskFlushReviewTally() {
+        redisLeaseLock.runWithLock(REVIEW_TALLY_LOCK, REVIEW_TALLY_LOCK_LEASE, lockToken -> {
+            Set<Long> flushedUserIds = reviewTallyRecorder.flush();
+            if (!flushedUserIds.isEmpty()) {
+                log.info("flushReviewTally - flushed users {}", flushedUserIds.size());
+                reviewSummaryService.refreshReviewSummaries(flushedUserIds);
+            }
+        });
+    }
+}
@@ -0,0 +1,208 @@
+package com.kusithm.meetupd.domain.review.service;
+
+import com.kusithm.meetupd.domain.review.dto.response.GetReviewCommentsResponseDto;
+import com.kusithm.meetupd.domain.review.entity.Review;
+import com.kusithm.meetupd.domain.review.entity.ReviewCommentBucket;
+import com.kusithm.meetupd.domain.review.entity.inner.ReviewComment;
+import com.kusithm.meetupd.domain.review.util.ReviewCommentCursor;
+import lombok.RequiredArgsConstructor;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import static com.kusithm.meetupd.domain.review.entity.ReviewCommentBucket.BUCKET_SIZE;
+
+/**
+ * 유저가 받은 한줄평(review_comment_bucket) 관리
+ * 한줄평은 유저별로 BUCKET_SIZE 개씩 버킷에 나눠 담아 document 크기를 제한하고,
+ * 목록은 최신 버킷부터 $slice 로 한 페이지에 필요한 만큼만 읽는다. (인덱스는 MongoIndexBootstrapper)
+ * 유저당 열린 버킷은 하나뿐이고(uk_review_comment_bucket_user_id_open), 가득 찬 버킷은 다음 한줄평을 넣기 전에 닫는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ReviewCommentService {
+
+    public static final int MAX_COMMENT_PAGE_SIZE = 50;
+    private static final int MIGRATION_BATCH_SIZE = 100;
+    private static final int MAX_ADD_COMMENT_RETRIES = 3;
+    private static final int OPERATIONS_PER_COMMENT_WRITE = 2;
+
+    private final MongoTemplate mongoTemplate;
+
+    public GetReviewCommentsResponseDto getComments(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+        CommentPage page = findComments(userId, cursor == null ? null : ReviewCommentCursor.decode(cursor), pageSize);
+        return GetReviewCommentsResponseDto.of(page.comments(), page.nextCursor() == null ? null : page.nextCursor().encode());
+    }
+
+    // 추천사 요약에 담을 최근 한줄평, 최신순
+    public List<ReviewComment> findRecentComments(Long userId, int size) {
+        return findComments(userId, null, size).comments();
+    }
+
+    // 같은 유저의 한줄평은 앞 upsert 결과(count)를 보고 버킷을 골라야 하므로 ordered bulkWrite
+    // 동시에 같은 유저의 새 버킷을 만들면 하나는 중복 키로 실패하므로, 실패한 한줄평부터 다시 실행해 먼저 만들어진 버킷에 추가
+    public void addComments(Map<Long, List<ReviewComment>> commentsByUserId) {
+        List<CommentWrite> writes = new ArrayList<>();
+        commentsByUserId.forEach((userId, comments) -> comments.forEach(comment -> writes.add(new CommentWrite(userId, comment))));
+        int from = 0;
+        for (int attempt = 0; from < writes.size(); attempt++) {
+            try {
+                executeCommentWrites(writes.subList(from, writes.size()));
+                return;
+            } catch (BulkOperationException e) {
+                BulkWriteError error = e.getErrors().get(0);
+                if (attempt >= MAX_ADD_COMMENT_RETRIES || ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+                from += error.getIndex() / OPERATIONS_PER_COMMENT_WRITE;
+            }
+        }
+    }
+
+    // 한줄평 하나당 (가득 찬 열린 버킷 닫기, 열린 버킷에 upsert) 두 연산
+    private void executeCommentWrites(List<CommentWrite> writes) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ReviewCommentBucket.class);
+        writes.forEach(write -> {
+            operations.updateMulti(createFindFullOpenBucketQuery(write.userId()), new Update().set("closed", true));
+            operations.upsert(createFindOpenBucketQuery(write.userId()), createAddCommentUpdate(write.comment()));
+        });
+        operations.execute();
+    }
+
+    // essays 에 남아 있는 한줄평을 버킷으로 옮기고 옮긴 유저 아이디를 반환
+    public Set<Long> migrateEssays() {
+        Query query = new Query(Criteria.where("essays.0").exists(true)).limit(MIGRATION_BATCH_SIZE);
+        query.fields().include("userId", "reviewComments", "essayBucketCount");
+        Set<Long> migratedUserIds = new HashSet<>();
+        List<Review> reviews;
+        while (!(reviews = mongoTemplate.find(query, Review.class)).isEmpty()) {
+            reviews.forEach(this::migrateEssays);
+            reviews.forEach(review -> migratedUserIds.add(review.getUserId()));
+        }
+        return migratedUserIds;
+    }
+
+    // 읽은 essays 를 (유저, 버킷 순번) 으로 정해지는 _id 에 upsert 하므로 중간에 멈췄다 다시 실행해도 같은 버킷을 덮어씀
+    // essays 가 읽은 그대로일 때만 비우고 순번을 넘기며, 그 사이 추가된 한줄평이 있으면 다음 반복에서 다시 읽어 옮김
+    private void migrateEssays(Review review) {
+        List<ReviewComment> essays = review.getReviewComments();
+        int firstOrdinal = Objects.requireNonNullElse(review.getEssayBucketCount(), 0);
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReviewCommentBucket.class);
+        int bucketCount = 0;
+        for (int from = 0; from < essays.size(); from += BUCKET_SIZE) {
+            List<ReviewComment> comments = essays.subList(from, Math.min(from + BUCKET_SIZE, essays.size()));
+            operations.upsert(new Query(Criteria.where("id").is(createMigratedBucketId(review.getUserId(), firstOrdinal + bucketCount))),
+                    new Update()
+                            .set("userId", review.getUserId())
+                            .set("count", comments.size())
+                            .set("closed", true)
+                            .set("comments", new ArrayList<>(comments)));
+            bucketCount++;
+        }
+        operations.execute();
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(review.getId()).and("essays").size(essays.size())),
+                new Update().set("essays", new ArrayList<>()).inc("essay_bucket_count", bucketCount).inc("revision", 1),
+                Review.class);
+    }
+
+    // 앞 4바이트(시각 자리)에 버킷 순번, 뒤 8바이트에 유저 아이디
+    // 1970년 시각이 되므로 배포 후 현재 시각으로 만들어진 버킷보다 앞에 정렬되고, 순번끼리는 옮긴 순서대로 정렬됨
+    private ObjectId createMigratedBucketId(Long userId, int ordinal) {
+        return new ObjectId(ByteBuffer.allocate(12).putInt(ordinal).putLong(userId).array());
+    }
+
+    // 최신 버킷부터 거꾸로 읽으며 size 개를 채움, 보통 버킷 하나(조회 한 번)로 끝남
+    private CommentPage findComments(Long userId, ReviewCommentCursor cursor, int size) {
+        List<ReviewComment> comments = new ArrayList<>(size);
+        BucketSlice slice;
+        if (cursor == null) {
+            slice = findLatestSlice(userId, null, size);
+        } else if (cursor.getEndIndex() == 0) {
+            slice = findLatestSlice(userId, cursor.getBucketId(), size);
+        } else {
+            slice = findSlice(userId, cursor.getBucketId(), cursor.getEndIndex(), size);
+        }
+        while (slice != null) {
+            List<ReviewComment> bucketComments = new ArrayList<>(slice.bucket().getComments());
+            Collections.reverse(bucketComments);
+            comments.addAll(bucketComments);
+            ObjectId bucketId = new ObjectId(slice.bucket().getId());
+            if (comments.size() >= size) {
+                boolean hasNext = slice.startIndex() > 0 || existsOlderBucket(userId, bucketId);
+                return new CommentPage(comments, hasNext ? ReviewCommentCursor.of(bucketId, slice.startIndex()) : null);
+            }
+            slice = findLatestSlice(userId, bucketId, size - comments.size());
+        }
+        return new CommentPage(comments, null);
+    }
+
+    // olderThan 보다 이전 버킷 중 가장 최신 버킷의 마지막 size 개 (olderThan 이 null 이면 가장 최신 버킷)
+    private BucketSlice findLatestSlice(Long userId, ObjectId olderThan, int size) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (olderThan != null) {
+            criteria.and("id").lt(olderThan);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, "id")).limit(1);
+        query.fields().slice("comments", -size);
+        ReviewCommentBucket bucket = mongoTemplate.findOne(query, ReviewCommentBucket.class);
+        if (bucket == null) {
+            return null;
+        }
+        return new BucketSlice(bucket, bucket.getCount() - bucket.getComments().size());
+    }
+
+    // 커서가 가리키는 버킷에서 endIndex 앞쪽 size 개
+    private BucketSlice findSlice(Long userId, ObjectId bucketId, int endIndex, int size) {
+        int startIndex = Math.max(0, endIndex - size);
+        Query query = new Query(Criteria.where("id").is(bucketId).and("userId").is(userId));
+        query.fields().slice("comments", startIndex, endIndex - startIndex);
+        ReviewCommentBucket bucket = mongoTemplate.findOne(query, ReviewCommentBucket.class);
+        return bucket == null ? null : new BucketSlice(bucket, startIndex);
+    }
+
+    private boolean existsOlderBucket(Long userId, ObjectId bucketId) {
+        return mongoTemplate.exists(new Query(Criteria.where("userId").is(userId).and("id").lt(bucketId)), ReviewCommentBucket.class);
+    }
+
+    private Query createFindFullOpenBucketQuery(Long userId) {
+        return new Query(Criteria.where("userId").is(userId)
+                .and("closed").is(false)
+                .and("count").gte(BUCKET_SIZE));
+    }
+
+    // 아직 다 차지 않은 버킷, 없으면 upsert 로 새 버킷 생성
+    private Query createFindOpenBucketQuery(Long userId) {
+        return new Query(Criteria.where("userId").is(userId)
+                .and("closed").is(false)
+                .and("count").lt(BUCKET_SIZE));
+    }
+
+    private Update createAddCommentUpdate(ReviewComment comment) {
+        return new Update()
+                .push("comments", comment)
+                .inc("count", 1);
+    }
+
+    private record CommentWrite(Long userId, ReviewComment comment) {
+    }
+
+    // startIndex 는 bucket.comments 의 첫 한줄평이 버킷 안에서 몇 번째인지
+    private record BucketSlice(ReviewCommentBucket bucket, int startIndex) {
+    }
+
+    // nextCursor 가 null 이면 마지막 페이지
+    private record CommentPage(List<ReviewComment> comments, ReviewCommentCursor nextCursor) {
+    }
+}
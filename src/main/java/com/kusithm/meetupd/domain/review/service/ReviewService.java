@@ -1,6 +1,8 @@
 package com.kusithm.meetupd.domain.review.service;
 
 import com.kusithm.meetupd.common.error.ConflictException;
+import com.kusithm.meetupd.common.mongo.DataMigration;
+import com.kusithm.meetupd.common.mongo.DataMigrationRepository;
 import com.kusithm.meetupd.common.error.EntityNotFoundException;
 import com.kusithm.meetupd.domain.contest.entity.Contest;
 import com.kusithm.meetupd.domain.contest.mongo.ContestRepository;
@@ -10,6 +12,7 @@ import com.kusithm.meetupd.domain.review.dto.request.UploadReviewRequestDto;
 import com.kusithm.meetupd.domain.review.dto.response.*;
 import com.kusithm.meetupd.domain.review.entity.NonUserReview;
 import com.kusithm.meetupd.domain.review.entity.Review;
+import com.kusithm.meetupd.domain.review.entity.ReviewCommentStats;
 import com.kusithm.meetupd.domain.review.entity.UserReviewedTeam;
 import com.kusithm.meetupd.domain.review.entity.WaitReview;
 import com.kusithm.meetupd.domain.review.entity.inner.ReviewComment;
@@ -20,13 +23,16 @@ import com.kusithm.meetupd.domain.review.mongo.NonUserReviewRepository;
 import com.kusithm.meetupd.domain.review.mongo.ReviewRepository;
 import com.kusithm.meetupd.domain.review.mongo.WaitReviewRepository;
 import com.kusithm.meetupd.domain.review.mysql.UserReviewedTeamRepository;
+import com.kusithm.meetupd.domain.review.tally.ReviewTallyRecorder;
 import com.kusithm.meetupd.domain.team.entity.Team;
 import com.kusithm.meetupd.domain.team.mysql.TeamRepository;
 import com.kusithm.meetupd.domain.user.entity.User;
 import com.kusithm.meetupd.domain.user.mysql.UserRepository;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -34,7 +40,12 @@ import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.kusithm.meetupd.common.error.ErrorCode.*;
 import static com.kusithm.meetupd.domain.review.entity.WaitReview.createWaitReviewByNonUserRequest;
@@ -44,7 +55,10 @@ import static com.kusithm.meetupd.domain.review.entity.inner.ReviewComment.creat
 @Service
 public class ReviewService {
 
+    private static final String REVIEW_COMMENT_STATS_MIGRATION = "review-comment-stats";
+
     private final ReviewRepository reviewRepository;
+    private final DataMigrationRepository dataMigrationRepository;
     private final WaitReviewRepository waitReviewRepository;
     private final UserReviewedTeamRepository userReviewedTeamRepository;
     private final NonUserReviewRepository nonUserReviewRepository;
@@ -53,6 +67,9 @@ public class ReviewService {
     private final ContestRepository contestRepository;
     private final MongoTemplate mongoTemplate;
     private final EmailService emailService;
+    private final ReviewSummaryService reviewSummaryService;
+    private final ReviewCommentService reviewCommentService;
+    private final ReviewTallyRecorder reviewTallyRecorder;
 
     public void createUserEmptyReview(Long userId){
         Review recommendation = Review.creatEmptyReview(userId);
@@ -60,19 +77,23 @@ public class ReviewService {
     }
 
     public GetUserReviewResponseDto getUserReviewByUserId(Long userId) {
-        Review review = getReviewByUserId(userId);
-        return GetUserReviewResponseDto.of(review);
+        return GetUserReviewResponseDto.of(reviewSummaryService.getReviewSummary(userId));
+    }
+
+    public GetReviewCommentsResponseDto getUserReviewComments(Long userId, String cursor, Integer size) {
+        return reviewCommentService.getComments(userId, cursor, size);
     }
 
     public UploadReviewResponseDto uploadReviews(Long sendUserId, UploadReviewRequestDto request) throws MessagingException, UnsupportedEncodingException {
         validateUserExist(sendUserId);
-        if(checkUserReviewThisTeam(sendUserId, getTeamId(request)))
+        Long teamId = getTeamId(request);
+        if(checkUserReviewThisTeam(sendUserId, teamId))
             throw new ConflictException(DUPLICATE_USER_REVIEW_TEAM);
         List<WaitReview> waitReviews = makeWaitReviewListFromUploadRequest(request);
-        for (WaitReview waitReview : waitReviews) {
-            uploadOrWaitReview(waitReview);
-        }
-        String uploadResultString = updateSendUserReviews(sendUserId, getTeamId(request));
+        String contestTitle = getContestTitleOfTeam(teamId);
+        uploadOrWaitReviews(waitReviews, teamId, contestTitle);
+        sendReviewUploadEmails(waitReviews, contestTitle);
+        String uploadResultString = updateSendUserReviews(sendUserId, teamId, contestTitle);
         return UploadReviewResponseDto.of(uploadResultString);
     }
 
@@ -105,11 +126,6 @@ public class ReviewService {
         return request.getUploadReviews().get(0).getTeamId();
     }
 
-    private Review getReviewByUserId(Long userId) {
-        return reviewRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException(USER_REVIEW_NOT_FOUND));
-    }
-
     private static List<WaitReview> makeWaitReviewListFromUploadRequest(UploadReviewRequestDto request) {
         return request.getUploadReviews().stream()
                 .map(WaitReview::createWaitReview)
@@ -117,22 +133,69 @@ public class ReviewService {
     }
 
 
-    private void uploadOrWaitReview(WaitReview waitReview) throws MessagingException, UnsupportedEncodingException {
-        // 리뷰 받는 유저가 팀에 추천사를 남겼으면 바로 반영
-        if(checkUserReviewThisTeam(waitReview.getUserId(), waitReview.getTeamId())) {
-            uploadReview(waitReview);
+    // 팀원 수와 관계없이 한줄평 버킷, 추천사, 한줄평 통계, 대기 리뷰 컬렉션마다 bulkWrite 한 번씩
+    private void uploadOrWaitReviews(List<WaitReview> waitReviews, Long teamId, String contestTitle) {
+        Set<Long> reviewedUserIds = findUserIdsReviewedTeam(waitReviews.stream().map(WaitReview::getUserId).toList(), teamId);
+        BulkOperations reviewOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Review.class);
+        BulkOperations commentStatsOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReviewCommentStats.class);
+        List<WaitReview> pendingReviews = new ArrayList<>();
+        Map<Long, List<ReviewComment>> commentsByUserId = new HashMap<>();
+        int reviewUpdateCount = 0;
+        int commentCount = 0;
+        for (WaitReview waitReview : waitReviews) {
+            // 리뷰 받는 유저가 팀에 추천사를 남겼으면 바로 반영
+            if(reviewedUserIds.contains(waitReview.getUserId())) {
+                Update update = createUploadReviewsUpdate(waitReview.getUserId(), List.of(waitReview));
+                if(isReviewUpdateNeeded(update, isReviewHaveComment(waitReview))) {
+                    reviewOperations.updateMulti(createFindByUserIdQuery(waitReview.getUserId()), update.inc("revision", 1));
+                    reviewUpdateCount++;
+                }
+                commentsByUserId.computeIfAbsent(waitReview.getUserId(), userId -> new ArrayList<>())
+                        .addAll(createReviewComments(List.of(waitReview), contestTitle));
+                if(isReviewHaveComment(waitReview)) {
+                    commentStatsOperations.upsert(createFindCommentStatsQuery(waitReview.getUserId()), createIncreaseCommentCountUpdate(1));
+                    commentCount++;
+                }
+            }
+            else { // 아직 리뷰받는 유저가 팀에 추천사를 남기지 않았다면 대기 리뷰 document에 저장
+                pendingReviews.add(waitReview);
+            }
+        }
+        // 요약이 한줄평 버킷과 통계를 읽으므로 둘 다 반영한 뒤 추천사 업데이트
+        if(commentCount > 0) {
+            commentStatsOperations.execute();
         }
-        else { // 아직 리뷰받는 유저가 팀에 추천사를 남기지 않았다면 대기 리뷰 document에 저장
-            uploadWaitReview(waitReview);
+        if(!commentsByUserId.isEmpty()) {
+            reviewCommentService.addComments(commentsByUserId);
+            if(reviewUpdateCount > 0) {
+                reviewOperations.execute();
+            }
+            reviewSummaryService.refreshReviewSummaries(commentsByUserId.keySet());
+        }
+        if(!pendingReviews.isEmpty()) {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, WaitReview.class)
+                    .insert(pendingReviews)
+                    .execute();
         }
-        sendReviewUploadEmail(waitReview);
     }
 
-    private void sendReviewUploadEmail(WaitReview waitReview) throws MessagingException, UnsupportedEncodingException {
-        User user = findUserById(waitReview.getUserId());
-        Team team = getTeamById(waitReview.getTeamId());
-        Contest contest = getContestById(team.getContestId());
-        emailService.sendReceivedReviewEmail(user.getEmail(), contest.getTitle());
+    private Set<Long> findUserIdsReviewedTeam(List<Long> userIds, Long teamId) {
+        return userReviewedTeamRepository.findAllByUserIdInAndTeamId(userIds, teamId).stream()
+                .map(UserReviewedTeam::getUserId)
+                .collect(Collectors.toSet());
+    }
+
+    private void sendReviewUploadEmails(List<WaitReview> waitReviews, String contestTitle) {
+        List<Long> userIds = waitReviews.stream().map(WaitReview::getUserId).distinct().toList();
+        List<String> toEmails = userRepository.findAllById(userIds).stream()
+                .map(User::getEmail)
+                .toList();
+        emailService.sendReceivedReviewEmails(toEmails, contestTitle);
+    }
+
+    private String getContestTitleOfTeam(Long teamId) {
+        Team team = getTeamById(teamId);
+        return getContestById(team.getContestId()).getTitle();
     }
 
     private void sendNonReviewUploadEmail(User user) throws MessagingException, UnsupportedEncodingException {
@@ -144,11 +207,12 @@ public class ReviewService {
                 .orElseThrow(() -> new EntityNotFoundException(USER_NOT_FOUND));
     }
 
-    private String updateSendUserReviews(Long userId, Long teamId) {
+    private String updateSendUserReviews(Long userId, Long teamId, String contestTitle) {
         saveUserReviewedTeam(userId, teamId);
         List<WaitReview> userWaitReviews = getWaitReviewsByUserAndTeam(userId, teamId);
-        userWaitReviews.forEach(this::uploadReview);
-        userWaitReviews.forEach(this::deleteWaitReview);
+        if(!userWaitReviews.isEmpty()) {
+            uploadWaitReviews(userId, userWaitReviews, contestTitle);
+        }
         return userWaitReviews.isEmpty() ? "추천사를 성공적으로 등록했습니다.": "추천사를 성공적으로 등록했습니다.\n회원님에게 새로운 추천사가 등록되었습니다.";
     }
 
@@ -164,19 +228,47 @@ public class ReviewService {
         return userReviewedTeamRepository.existsByUserIdAndTeamId(userId, teamId);
     }
 
-    private void uploadReview(WaitReview waitReview) {
-        Query query = createFindByUserIdQuery(waitReview.getUserId());
-        Update update = new Update();
-        increaseChoiceCountInUpdate(waitReview.getSelectedKeywords(), update);
-        increaseTeamCultureCountInUpdate(waitReview.getSelectedTeamCultures(), update);
-        increaseWorkMethodCountInUpdate(waitReview.getSelectedWorkMethods(), update);
-        if(isReviewHaveComment(waitReview)) {
-            Team team = getTeamById(waitReview.getTeamId());
-            Contest contest = getContestById(team.getContestId());
-            ReviewComment createComment = createRecommendationComment(waitReview.getTeamId(), contest.getTitle(), waitReview.getRecommendationComment());
-            addCommentInUpdate(update, createComment);
+    // 대기 중이던 리뷰를 합쳐 한줄평 추가 한 번, 추천사 업데이트 한 번, 한줄평 통계 한 번, 대기 리뷰 삭제 한 번으로 반영
+    private void uploadWaitReviews(Long userId, List<WaitReview> waitReviews, String contestTitle) {
+        reviewCommentService.addComments(Map.of(userId, createReviewComments(waitReviews, contestTitle)));
+        int commentCount = (int) waitReviews.stream().filter(this::isReviewHaveComment).count();
+        if(commentCount > 0) {
+            mongoTemplate.upsert(createFindCommentStatsQuery(userId), createIncreaseCommentCountUpdate(commentCount), ReviewCommentStats.class);
+        }
+        Update update = createUploadReviewsUpdate(userId, waitReviews);
+        if(isReviewUpdateNeeded(update, commentCount > 0)) {
+            reviewSummaryService.updateReviewAndSummary(userId, update);
+        } else {
+            reviewSummaryService.refreshReviewSummaries(List.of(userId));
         }
-        mongoTemplate.updateMulti(query, update, Review.class);
+        List<String> waitReviewIds = waitReviews.stream().map(WaitReview::getId).toList();
+        mongoTemplate.remove(new Query(Criteria.where("id").in(waitReviewIds)), WaitReview.class);
+    }
+
+    // 같은 유저에게 가는 리뷰들의 선택지 count 는 합산해서 $inc (write-behind 모드면 Redis), 한줄평은 버킷과 통계에 따로 반영
+    private Update createUploadReviewsUpdate(Long userId, List<WaitReview> waitReviews) {
+        Map<String, Integer> increments = new HashMap<>();
+        for (WaitReview waitReview : waitReviews) {
+            increaseChoiceCount(waitReview.getSelectedKeywords(), increments);
+            increaseTeamCultureCount(waitReview.getSelectedTeamCultures(), increments);
+            increaseWorkMethodCount(waitReview.getSelectedWorkMethods(), increments);
+        }
+        Update update = new Update();
+        reviewTallyRecorder.record(userId, increments, update);
+        return update;
+    }
+
+    // write-behind 모드에서 객관식 count 만 바뀌면 update 가 비므로 추천사는 쓰지 않고 요약만 Redis 증가량을 더해 다시 계산 (revision 은 flush 가 증가)
+    // 한줄평이 추가됐으면 더 오래된 한줄평으로 만든 요약이 덮어쓰지 않도록 revision 증가
+    private boolean isReviewUpdateNeeded(Update update, boolean commentAdded) {
+        return commentAdded || !update.getUpdateObject().isEmpty();
+    }
+
+    private List<ReviewComment> createReviewComments(List<WaitReview> waitReviews, String contestTitle) {
+        return waitReviews.stream()
+                .filter(this::isReviewHaveComment)
+                .map(waitReview -> createRecommendationComment(waitReview.getTeamId(), contestTitle, waitReview.getRecommendationComment()))
+                .toList();
     }
 
     private Contest getContestById(String contestId) {
@@ -190,55 +282,97 @@ public class ReviewService {
     }
 
     private void uploadNonUserReview(WaitReview waitReview) {
-        Query query = createFindByUserIdQuery(waitReview.getUserId());
+        Map<String, Integer> increments = new HashMap<>();
+        increaseChoiceCount(waitReview.getSelectedKeywords(), increments);
+        increaseTeamCultureCount(waitReview.getSelectedTeamCultures(), increments);
+        increaseWorkMethodCount(waitReview.getSelectedWorkMethods(), increments);
         Update update = new Update();
-        increaseChoiceCountInUpdate(waitReview.getSelectedKeywords(), update);
-        increaseTeamCultureCountInUpdate(waitReview.getSelectedTeamCultures(), update);
-        increaseWorkMethodCountInUpdate(waitReview.getSelectedWorkMethods(), update);
+        reviewTallyRecorder.record(waitReview.getUserId(), increments, update);
         ReviewComment createComment = createRecommendationComment(waitReview.getTeamId(), "비회원 추천사", waitReview.getRecommendationComment());
-        addCommentInUpdate(update, createComment);
-        mongoTemplate.updateMulti(query, update, Review.class);
+        reviewCommentService.addComments(Map.of(waitReview.getUserId(), List.of(createComment)));
+        increaseCommentCount(waitReview.getUserId());
+        reviewSummaryService.updateReviewAndSummary(waitReview.getUserId(), update);
+    }
+
+    // 유저 요약의 한줄평 수, 공모전 상세의 평균 한줄평 수 계산용 통계
+    private void increaseCommentCount(Long userId) {
+        mongoTemplate.upsert(createFindCommentStatsQuery(userId), createIncreaseCommentCountUpdate(1), ReviewCommentStats.class);
     }
 
+    private Query createFindCommentStatsQuery(Long userId) {
+        return new Query(Criteria.where("_id").is(userId));
+    }
 
-    private void deleteWaitReview(WaitReview waitReview) {
-        mongoTemplate.remove(waitReview);
+    private Update createIncreaseCommentCountUpdate(int count) {
+        return new Update().inc("comment_count", count);
     }
-    private void uploadWaitReview(WaitReview waitReview) {
-        waitReviewRepository.save(waitReview);
+
+    // 통계가 생기기 전에 받은 한줄평(essays) 수를 유저별 통계에 더함, 완료되면 data_migration 에 표시해 한 번만 실행
+    // 그 사이 upsert 된 통계는 덮어쓰지 않고 더하고, backfilled 표시가 있는 통계는 건너뛰어 다시 실행해도 두 번 더하지 않음
+    public boolean backfillReviewCommentStats() {
+        if(isReviewCommentStatsBackfilled()) {
+            return false;
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Review.class)).aggregate(List.of(
+                new Document("$match", new Document("user_id", new Document("$ne", null))),
+                new Document("$project", new Document("_id", "$user_id")
+                        .append("comment_count", new Document("$size", new Document("$ifNull", List.of("$essays", List.of()))))
+                        .append("backfilled", true)),
+                new Document("$merge", new Document("into", mongoTemplate.getCollectionName(ReviewCommentStats.class))
+                        .append("on", "_id")
+                        .append("whenMatched", List.of(new Document("$set", new Document()
+                                .append("comment_count", new Document("$cond", List.of(
+                                        new Document("$eq", List.of("$backfilled", true)),
+                                        "$comment_count",
+                                        new Document("$add", List.of(new Document("$ifNull", List.of("$comment_count", 0)), "$$new.comment_count")))))
+                                .append("backfilled", true))))
+                        .append("whenNotMatched", "insert"))
+        )).toCollection();
+        dataMigrationRepository.save(DataMigration.completed(REVIEW_COMMENT_STATS_MIGRATION));
+        return true;
+    }
+
+    // essays 를 버킷으로 옮기기 전에 통계 backfill 이 끝나 있어야 함
+    public boolean isReviewCommentStatsBackfilled() {
+        return dataMigrationRepository.existsById(REVIEW_COMMENT_STATS_MIGRATION);
+    }
+
+
+    // essays 에 남아 있던 한줄평을 버킷으로 옮기고, 옮긴 유저의 요약을 버킷 기준으로 다시 만듦
+    public int migrateReviewComments() {
+        Set<Long> migratedUserIds = reviewCommentService.migrateEssays();
+        reviewSummaryService.refreshReviewSummaries(migratedUserIds);
+        return migratedUserIds.size();
     }
 
     private Query createFindByUserIdQuery(Long userId) {
         return new Query(Criteria.where("userId").is(userId));
     }
 
-    private void increaseChoiceCountInUpdate(List<SelectKeyword> choiceKeywordCodes, Update update) {
-        choiceKeywordCodes.forEach(keywordCode -> update.inc("multiple_chocies." + keywordCode.getSelectKeyword() + ".count", 1));
+    // Update.inc 는 같은 필드를 다시 넣으면 덮어쓰므로 필드별 증가량을 먼저 합산
+    private void increaseChoiceCount(List<SelectKeyword> choiceKeywordCodes, Map<String, Integer> increments) {
+        choiceKeywordCodes.forEach(keywordCode -> increments.merge("multiple_chocies." + keywordCode.getSelectKeyword() + ".count", 1, Integer::sum));
     }
 
-    private void increaseTeamCultureCountInUpdate(SelectTeamCulture selectTeamCultureDto, Update update) {
+    private void increaseTeamCultureCount(SelectTeamCulture selectTeamCultureDto, Map<String, Integer> increments) {
 
         // 0의 경우 왼쪽 선택지를 count, 그외 경우(1)일 경우 오른쪽 선택지를 count
-        update.inc("team_cultures." + 0 + (selectTeamCultureDto.getFeedbackStyle() == 0 ? ".left_count" : ".right_count"), 1);
-        update.inc("team_cultures." + 1 + (selectTeamCultureDto.getTeamStyle() == 0 ? ".left_count" : ".right_count"), 1);
-        update.inc("team_cultures." + 2 + (selectTeamCultureDto.getPersonalityStyle() == 0 ? ".left_count" : ".right_count"), 1);
+        increments.merge("team_cultures." + 0 + (selectTeamCultureDto.getFeedbackStyle() == 0 ? ".left_count" : ".right_count"), 1, Integer::sum);
+        increments.merge("team_cultures." + 1 + (selectTeamCultureDto.getTeamStyle() == 0 ? ".left_count" : ".right_count"), 1, Integer::sum);
+        increments.merge("team_cultures." + 2 + (selectTeamCultureDto.getPersonalityStyle() == 0 ? ".left_count" : ".right_count"), 1, Integer::sum);
     }
-    private void increaseWorkMethodCountInUpdate(SelectWorkMethod workMethodSelects, Update update) {
+    private void increaseWorkMethodCount(SelectWorkMethod workMethodSelects, Map<String, Integer> increments) {
 
         // 0의 경우 왼쪽 선택지를 count, 그외 경우(1)일 경우 오른쪽 선택지를 count
-        update.inc("work_methods." + 0 + (workMethodSelects.getWorkStyle() == 0 ? ".left_count" : ".right_count"), 1);
-        update.inc("work_methods." + 1 + (workMethodSelects.getResultProcess() == 0 ? ".left_count" : ".right_count"), 1);
-        update.inc("work_methods." + 2 + (workMethodSelects.getWorkLifeBalance() == 0 ? ".left_count" : ".right_count"), 1);
+        increments.merge("work_methods." + 0 + (workMethodSelects.getWorkStyle() == 0 ? ".left_count" : ".right_count"), 1, Integer::sum);
+        increments.merge("work_methods." + 1 + (workMethodSelects.getResultProcess() == 0 ? ".left_count" : ".right_count"), 1, Integer::sum);
+        increments.merge("work_methods." + 2 + (workMethodSelects.getWorkLifeBalance() == 0 ? ".left_count" : ".right_count"), 1, Integer::sum);
     }
 
     private boolean isReviewHaveComment(WaitReview waitReview) {
         return waitReview.getRecommendationComment() != null;
     }
 
-    private void addCommentInUpdate(Update update, ReviewComment createComment) {
-        update.push("essays", createComment);
-    }
-
 
     private void validateUserExist(Long userId) {
         if(!userRepository.existsById(userId)) {
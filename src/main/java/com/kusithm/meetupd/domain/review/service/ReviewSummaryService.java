@@ -0,0 +1,123 @@
+package com.kusithm.meetupd.domain.review.service;
+
+import com.kusithm.meetupd.common.error.EntityNotFoundException;
+import com.kusithm.meetupd.domain.review.entity.Review;
+import com.kusithm.meetupd.domain.review.entity.ReviewCommentStats;
+import com.kusithm.meetupd.domain.review.entity.ReviewSummary;
+import com.kusithm.meetupd.domain.review.mongo.ReviewCommentStatsRepository;
+import com.kusithm.meetupd.domain.review.mongo.ReviewSummaryRepository;
+import com.kusithm.meetupd.domain.review.tally.ReviewTallyRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.kusithm.meetupd.common.error.ErrorCode.USER_REVIEW_NOT_FOUND;
+
+/**
+ * 유저 추천사 요약(review_summary) 관리
+ * 추천사 $inc 를 findAndModify 로 보내 바뀐 document 를 받고(essays 제외), 최근 한줄평은 버킷에서 읽어 요약을 다시 계산해 저장한다.
+ * 한줄평 버킷에 먼저 추가한 뒤 추천사를 업데이트해야 요약에 새 한줄평이 들어간다.
+ * 한줄평 수는 review_comment_stats 에서 읽으므로 통계도 추천사 업데이트 전에 반영해야 한다.
+ * write-behind 모드에서는 아직 Mongo 에 반영되지 않은 객관식 count 를 더해서 계산한다.
+ * 동시에 갱신되어도 revision 이 작은 요약으로는 덮어쓰지 않는다.
+ * revision 이 같으면 Redis 증가량만 다를 수 있으므로 나중에 계산한 요약으로 덮어쓰고, 뒤처진 값은 다음 flush 의 revision 증가로 바로잡힌다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ReviewSummaryService {
+
+    private final ReviewSummaryRepository reviewSummaryRepository;
+    private final ReviewCommentStatsRepository reviewCommentStatsRepository;
+    private final ReviewCommentService reviewCommentService;
+    private final ReviewTallyRecorder reviewTallyRecorder;
+    private final MongoTemplate mongoTemplate;
+
+    public ReviewSummary getReviewSummary(Long userId) {
+        return reviewSummaryRepository.findById(userId)
+                .orElseGet(() -> saveReviewSummary(findReviewForSummary(userId)
+                        .orElseThrow(() -> new EntityNotFoundException(USER_REVIEW_NOT_FOUND)), findCommentCount(userId)));
+    }
+
+    // 추천사 업데이트와 요약 갱신, update 에 revision 증가가 추가됨
+    public void updateReviewAndSummary(Long userId, Update update) {
+        Review updated = mongoTemplate.findAndModify(
+                createFindReviewQuery(userId),
+                update.inc("revision", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                Review.class);
+        if (updated != null) {
+            saveReviewSummary(updated, findCommentCount(userId));
+        }
+    }
+
+    // bulkWrite 로 이미 반영된 추천사들의 요약을 한 번의 조회로 갱신
+    public void refreshReviewSummaries(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Query query = new Query(Criteria.where("userId").in(userIds));
+        excludeComments(query);
+        Map<Long, Integer> commentCounts = findCommentCounts(userIds);
+        mongoTemplate.find(query, Review.class)
+                .forEach(review -> saveReviewSummary(review, commentCounts.getOrDefault(review.getUserId(), 0)));
+    }
+
+    private int findCommentCount(Long userId) {
+        return reviewCommentStatsRepository.findById(userId)
+                .map(stats -> Objects.requireNonNullElse(stats.getCommentCount(), 0))
+                .orElse(0);
+    }
+
+    private Map<Long, Integer> findCommentCounts(Collection<Long> userIds) {
+        return reviewCommentStatsRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(ReviewCommentStats::getUserId, stats -> Objects.requireNonNullElse(stats.getCommentCount(), 0)));
+    }
+
+    private Optional<Review> findReviewForSummary(Long userId) {
+        return Optional.ofNullable(mongoTemplate.findOne(createFindReviewQuery(userId), Review.class));
+    }
+
+    // 저장된 요약보다 revision 이 작지 않을 때만 덮어씀, 이미 더 최신 요약이 있으면 upsert 가 _id 중복으로 실패하므로 무시
+    private ReviewSummary saveReviewSummary(Review review, int commentCount) {
+        reviewTallyRecorder.mergePending(review);
+        ReviewSummary summary = ReviewSummary.of(review,
+                reviewCommentService.findRecentComments(review.getUserId(), ReviewSummary.RECENT_COMMENT_COUNT),
+                commentCount);
+        Query query = new Query(Criteria.where("userId").is(summary.getUserId()).and("revision").lte(summary.getRevision()));
+        Update update = new Update()
+                .set("revision", summary.getRevision())
+                .set("keywords", summary.getKeywords())
+                .set("team_cultures", summary.getTeamCultures())
+                .set("work_methods", summary.getWorkMethods())
+                .set("recent_comments", summary.getRecentComments())
+                .set("comment_count", summary.getCommentCount());
+        try {
+            mongoTemplate.upsert(query, update, ReviewSummary.class);
+        } catch (DuplicateKeyException e) {
+            // 다른 요청이 더 최신 revision 으로 이미 저장함
+        }
+        return summary;
+    }
+
+    private Query createFindReviewQuery(Long userId) {
+        Query query = new Query(Criteria.where("userId").is(userId));
+        excludeComments(query);
+        return query;
+    }
+
+    // 한줄평은 review_comment_bucket 에 있으므로 옮겨지기 전의 essays 도 읽지 않음
+    private void excludeComments(Query query) {
+        query.fields().exclude("essays");
+    }
+}
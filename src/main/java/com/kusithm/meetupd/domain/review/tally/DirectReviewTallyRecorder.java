@@ -0,0 +1,35 @@
+package com.kusithm.meetupd.domain.review.tally;
+
+import com.kusithm.meetupd.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+// 추천사 업데이트와 같은 요청에서 $inc
+// write-behind 모드에서 바꾼 경우 Redis 에 남아 있는 증가량은 요약에 더하고 flush 로 마저 반영
+@Component
+@ConditionalOnProperty(name = "review.tally.mode", havingValue = "direct", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DirectReviewTallyRecorder implements ReviewTallyRecorder {
+
+    private final RedisReviewTallyBuffer redisReviewTallyBuffer;
+
+    @Override
+    public void record(Long userId, Map<String, Integer> increments, Update update) {
+        increments.forEach(update::inc);
+    }
+
+    @Override
+    public void mergePending(Review review) {
+        redisReviewTallyBuffer.mergePending(review);
+    }
+
+    @Override
+    public Set<Long> flush() {
+        return redisReviewTallyBuffer.flush();
+    }
+}
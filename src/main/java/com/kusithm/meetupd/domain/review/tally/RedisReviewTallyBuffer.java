@@ -0,0 +1,189 @@
+package com.kusithm.meetupd.domain.review.tally;
+
+import com.kusithm.meetupd.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 추천사 객관식 count 를 유저별 Redis 해시에 HINCRBY 로 모아 두고, 주기적으로 유저별로 합쳐 Mongo 에 한 번씩 $inc 하는 write-behind
+ * flush 는 해시를 flushing 키로 옮기며 flush id 를 붙이고, Mongo 에는 tally_flush_id 가 그보다 작을 때만 반영한다.
+ * 반영 도중 멈춰도 다음 flush 가 남아 있는 flushing 해시를 같은 id 로 다시 보내므로 count 가 빠지거나 두 번 더해지지 않는다.
+ * (Redis 재시작 후에도 남아 있으려면 Redis AOF 영속화 필요)
+ * direct 모드로 바꾼 뒤에도 남아 있는 증가량을 반영할 수 있도록 모드와 관계없이 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisReviewTallyBuffer {
+
+    private static final String PENDING_KEY_PREFIX = "review:tally:";
+    private static final String FLUSHING_KEY_SUFFIX = ":flushing";
+    private static final String DIRTY_KEY = "review:tally:dirty";
+    private static final String FLUSH_SEQUENCE_KEY = "review:tally:flush-seq";
+    private static final String FLUSH_ID_FIELD = "_flush_id";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // 증가량 기록과 flush 대상(dirty) 등록을 한 번에, ARGV = userId, field1, count1, field2, count2 ...
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do " +
+                    "redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+                    "end " +
+                    "redis.call('sadd', KEYS[2], ARGV[1]) " +
+                    "return 1", Long.class);
+
+    // 이전 flush 가 끝나지 않았으면 그 해시를 그대로, 아니면 모아 둔 해시를 flushing 으로 옮기고 새 flush id 를 붙여 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PREPARE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 0 then " +
+                    "if redis.call('exists', KEYS[1]) == 0 then return {} end " +
+                    "redis.call('rename', KEYS[1], KEYS[2]) " +
+                    "redis.call('hset', KEYS[2], ARGV[1], redis.call('incr', KEYS[3])) " +
+                    "end " +
+                    "return redis.call('hgetall', KEYS[2])", List.class);
+
+    // Mongo 에 반영한 flush 의 해시만 삭제, 그 사이 새로 쌓인 증가량이 없으면 dirty 에서 제거
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], ARGV[1]) == ARGV[2] then " +
+                    "redis.call('del', KEYS[1]) " +
+                    "end " +
+                    "if redis.call('exists', KEYS[1]) == 0 and redis.call('exists', KEYS[2]) == 0 then " +
+                    "redis.call('srem', KEYS[3], ARGV[3]) " +
+                    "end " +
+                    "return 1", Long.class);
+
+    // dirty 가 아니면 남은 증가량이 없으므로 빈 결과, 아니면 flushing(flush id 포함)과 pending 해시를 같은 시점에 읽어 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('sismember', KEYS[1], ARGV[1]) == 0 then return {} end " +
+                    "return {redis.call('hgetall', KEYS[2]), redis.call('hgetall', KEYS[3])}", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MongoTemplate mongoTemplate;
+
+    public void record(Long userId, Map<String, Integer> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(increments.size() * 2 + 1);
+        args.add(String.valueOf(userId));
+        increments.forEach((field, count) -> {
+            args.add(field);
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(RECORD_SCRIPT, List.of(pendingKey(userId), DIRTY_KEY), args.toArray());
+    }
+
+    // flushing 해시는 추천사의 tally_flush_id 보다 새 flush 일 때만 (이미 반영했는데 아직 지우지 못한 경우 제외)
+    // 두 해시를 스크립트 한 번으로 읽으므로 그 사이 flush 가 끼어들어 같은 증가량을 두 번 더하거나 빠뜨리지 않음
+    @SuppressWarnings("unchecked")
+    public void mergePending(Review review) {
+        List<List<String>> hashes = redisTemplate.execute(READ_PENDING_SCRIPT,
+                List.of(DIRTY_KEY, flushingKey(review.getUserId()), pendingKey(review.getUserId())), String.valueOf(review.getUserId()));
+        if (hashes == null || hashes.isEmpty()) {
+            return;
+        }
+        Map<String, String> flushing = toMap(hashes.get(0));
+        Map<String, String> pending = toMap(hashes.get(1));
+        long appliedFlushId = Objects.requireNonNullElse(review.getTallyFlushId(), 0L);
+        if (!flushing.isEmpty() && Long.parseLong(flushing.get(FLUSH_ID_FIELD)) > appliedFlushId) {
+            increaseCounts(review, flushing);
+        }
+        increaseCounts(review, pending);
+    }
+
+    // 모아 둔 증가량을 Mongo 에 반영하고 count 가 바뀐 유저 아이디 반환, 남은 증가량이 없으면 SMEMBERS 한 번으로 끝남
+    public Set<Long> flush() {
+        Set<String> dirtyUserIds = redisTemplate.opsForSet().members(DIRTY_KEY);
+        if (dirtyUserIds == null || dirtyUserIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> userIds = dirtyUserIds.stream().map(Long::valueOf).toList();
+        Set<Long> flushedUserIds = new HashSet<>();
+        for (int from = 0; from < userIds.size(); from += FLUSH_BATCH_SIZE) {
+            flushedUserIds.addAll(flushBatch(userIds.subList(from, Math.min(from + FLUSH_BATCH_SIZE, userIds.size()))));
+        }
+        return flushedUserIds;
+    }
+
+    // 유저마다 flush 준비 후 한 번의 bulkWrite 로 반영하고 완료 처리
+    private Set<Long> flushBatch(List<Long> userIds) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Review.class);
+        Map<Long, String> flushIds = new HashMap<>();
+        for (Long userId : userIds) {
+            Map<String, String> flushing = prepareFlush(userId);
+            if (flushing.isEmpty()) {
+                continue;
+            }
+            long flushId = Long.parseLong(flushing.get(FLUSH_ID_FIELD));
+            bulkOperations.updateOne(createFindNotAppliedReviewQuery(userId, flushId), createFlushUpdate(flushing, flushId));
+            flushIds.put(userId, String.valueOf(flushId));
+        }
+        if (!flushIds.isEmpty()) {
+            bulkOperations.execute();
+        }
+        userIds.forEach(userId -> completeFlush(userId, flushIds.getOrDefault(userId, "")));
+        return flushIds.keySet();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> prepareFlush(Long userId) {
+        List<String> entries = redisTemplate.execute(PREPARE_FLUSH_SCRIPT,
+                List.of(pendingKey(userId), flushingKey(userId), FLUSH_SEQUENCE_KEY), FLUSH_ID_FIELD);
+        return entries == null ? new HashMap<>() : toMap(entries);
+    }
+
+    // HGETALL 결과(field, value, field, value ...)를 Map 으로
+    private Map<String, String> toMap(List<String> entries) {
+        Map<String, String> hash = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            hash.put(entries.get(i), entries.get(i + 1));
+        }
+        return hash;
+    }
+
+    private void completeFlush(Long userId, String flushId) {
+        redisTemplate.execute(COMPLETE_FLUSH_SCRIPT, List.of(flushingKey(userId), pendingKey(userId), DIRTY_KEY),
+                FLUSH_ID_FIELD, flushId, String.valueOf(userId));
+    }
+
+    // 같은 flush 가 이미 반영되었으면 (tally_flush_id >= flushId) 아무 document 도 매칭되지 않음
+    private Query createFindNotAppliedReviewQuery(Long userId, long flushId) {
+        return new Query(Criteria.where("userId").is(userId).and("tallyFlushId").not().gte(flushId));
+    }
+
+    // 요약이 다시 만들어지도록 revision 도 증가
+    private Update createFlushUpdate(Map<String, String> flushing, long flushId) {
+        Update update = new Update();
+        flushing.forEach((field, count) -> {
+            if (!FLUSH_ID_FIELD.equals(field)) {
+                update.inc(field, Integer.parseInt(count));
+            }
+        });
+        return update.set("tally_flush_id", flushId).inc("revision", 1);
+    }
+
+    private void increaseCounts(Review review, Map<String, String> counts) {
+        counts.forEach((field, count) -> {
+            if (!FLUSH_ID_FIELD.equals(field)) {
+                review.increaseCount(field, Integer.parseInt(count));
+            }
+        });
+    }
+
+    private String pendingKey(Long userId) {
+        return PENDING_KEY_PREFIX + userId;
+    }
+
+    private String flushingKey(Long userId) {
+        return PENDING_KEY_PREFIX + userId + FLUSHING_KEY_SUFFIX;
+    }
+}
@@ -0,0 +1,34 @@
+package com.kusithm.meetupd.domain.review.tally;
+
+import com.kusithm.meetupd.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+
+// 증가량을 Redis 버퍼에 모아 두고 ReviewTallyScheduler 가 주기적으로 flush
+@Component
+@ConditionalOnProperty(name = "review.tally.mode", havingValue = "write-behind")
+@RequiredArgsConstructor
+public class RedisReviewTallyRecorder implements ReviewTallyRecorder {
+
+    private final RedisReviewTallyBuffer redisReviewTallyBuffer;
+
+    @Override
+    public void record(Long userId, Map<String, Integer> increments, Update update) {
+        redisReviewTallyBuffer.record(userId, increments);
+    }
+
+    @Override
+    public void mergePending(Review review) {
+        redisReviewTallyBuffer.mergePending(review);
+    }
+
+    @Override
+    public Set<Long> flush() {
+        return redisReviewTallyBuffer.flush();
+    }
+}
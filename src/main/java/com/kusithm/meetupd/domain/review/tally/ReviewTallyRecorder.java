@@ -0,0 +1,24 @@
+package com.kusithm.meetupd.domain.review.tally;
+
+import com.kusithm.meetupd.domain.review.entity.Review;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 추천사 객관식(키워드/팀문화/작업방식) count 증가 방식, review.tally.mode 로 선택
+ * direct: 추천사 업데이트에 $inc 로 바로 반영 (기본값)
+ * write-behind: Redis 에 모아 두었다가 주기적으로 합쳐서 Mongo 에 반영
+ */
+public interface ReviewTallyRecorder {
+
+    // increments 는 $inc 필드 경로별 증가량, direct 는 update 에 넣고 write-behind 는 Redis 에 기록
+    void record(Long userId, Map<String, Integer> increments, Update update);
+
+    // 아직 Mongo 에 반영되지 않은 증가량을 조회한 추천사에 더함
+    void mergePending(Review review);
+
+    // 모아 둔 증가량을 Mongo 에 반영하고 count 가 바뀐 유저 아이디 반환 (direct 모드는 모드 변경 전에 남은 증가량)
+    Set<Long> flush();
+}
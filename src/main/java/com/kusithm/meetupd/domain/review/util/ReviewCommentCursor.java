@@ -0,0 +1,48 @@
+package com.kusithm.meetupd.domain.review.util;
+
+import com.kusithm.meetupd.common.error.BadRequestException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.kusithm.meetupd.common.error.ErrorCode.INVALID_PAGE_CURSOR;
+
+// 한줄평 목록 커서 페이징용 커서, 다음에 읽을 버킷의 (bucketId, endIndex)를 base64로 감싼 값
+// endIndex 앞쪽(더 오래된) 한줄평부터 이어서 읽고, 0 이면 그 이전 버킷부터 읽음
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewCommentCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final ObjectId bucketId;
+
+    private final int endIndex;
+
+    public static ReviewCommentCursor of(ObjectId bucketId, int endIndex) {
+        return new ReviewCommentCursor(bucketId, endIndex);
+    }
+
+    public static ReviewCommentCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            int endIndex = Integer.parseInt(values[1]);
+            if (endIndex < 0) {
+                throw new BadRequestException(INVALID_PAGE_CURSOR);
+            }
+            return new ReviewCommentCursor(new ObjectId(values[0]), endIndex);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException(INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = bucketId.toHexString() + DELIMITER + endIndex;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
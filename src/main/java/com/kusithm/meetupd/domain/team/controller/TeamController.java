@@ -14,6 +14,7 @@ import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -34,6 +35,12 @@ public class TeamController {
     @GetMapping("/recruiting")
     public ResponseEntity<SuccessResponse<TeamResponseDto>> findAllRecruitingTeams(PageDto pageDTO) {
 
+        // cursor 파라미터가 있으면 커서 페이징 (무한 스크롤)
+        if (pageDTO.isCursorMode()) {
+            Slice<Team> teamsCursor = teamService.findTeamsByCursor(pageDTO, RECRUITING.getNumber());
+            return SuccessResponse.of(SuccessCode.OK, teamService.findRecruitingTeamsByCursor(teamsCursor));
+        }
+
         Page<Team> teamsCondition = teamService.findTeamsCondition(pageDTO, RECRUITING.getNumber());
         TeamResponseDto response = teamService.findRecruitingTeams(teamsCondition);
 
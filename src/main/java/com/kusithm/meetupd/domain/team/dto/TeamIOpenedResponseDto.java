@@ -1,6 +1,6 @@
 package com.kusithm.meetupd.domain.team.dto;
 
-import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.team.dto.response.ResponseTeamMemeberDto;
 import com.kusithm.meetupd.domain.team.entity.Team;
 import com.kusithm.meetupd.domain.user.entity.User;
@@ -22,7 +22,7 @@ public class TeamIOpenedResponseDto {
     private String contestTitle;
     private List<String> contestImage;
 
-    public static TeamIOpenedResponseDto of(Team team, List<User> teamMemberInfos, List<User> applyMemberInfos, Contest contest) {
+    public static TeamIOpenedResponseDto of(Team team, List<User> teamMemberInfos, List<User> applyMemberInfos, ContestSummary contest) {
         return TeamIOpenedResponseDto.builder()
                 .teamId(team.getId())
                 .teamMemberSize(teamMemberInfos.size())
@@ -13,8 +13,14 @@ public class PageDto {
     private int page;
     private int size;
 
+    private String cursor; //커서 페이징 (첫 페이지는 빈 값)
+
     public PageDto() {
         this.page = 1;
         this.size = 10;
     }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
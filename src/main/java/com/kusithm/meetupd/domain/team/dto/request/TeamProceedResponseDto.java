@@ -1,7 +1,7 @@
 package com.kusithm.meetupd.domain.team.dto.request;
 
 
-import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.team.dto.response.ResponseTeamMemeberDto;
 import com.kusithm.meetupd.domain.team.dto.response.TeamIappliedResponseDto;
 import com.kusithm.meetupd.domain.team.entity.Team;
@@ -29,7 +29,7 @@ public class TeamProceedResponseDto {
     public List<ResponseTeamMemeberDto> teamMemberInfos;
     public String chatLink;
 
-    public static TeamProceedResponseDto of(Team team, Contest contest, User leaderInfo, List<User> teamMemberInfos) {
+    public static TeamProceedResponseDto of(Team team, ContestSummary contest, User leaderInfo, List<User> teamMemberInfos) {
 
         return TeamProceedResponseDto.builder()
                 .contestId(contest.getId())
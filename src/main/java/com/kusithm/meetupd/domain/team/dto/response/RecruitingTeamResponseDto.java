@@ -1,10 +1,18 @@
 package com.kusithm.meetupd.domain.team.dto.response;
 
-import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.common.error.EntityNotFoundException;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.team.entity.Team;
 import com.kusithm.meetupd.domain.user.entity.User;
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.kusithm.meetupd.common.error.ErrorCode.CONTEST_NOT_FOUND;
+
 @Getter
 @Setter
 @ToString
@@ -28,7 +36,7 @@ public class RecruitingTeamResponseDto {
 
     private String teamLeaderMessage;
 
-    public RecruitingTeamResponseDto(Contest contest, Team team, User user) {
+    public RecruitingTeamResponseDto(ContestSummary contest, Team team, User user) {
 
         this.contestId = contest.getId();
 
@@ -46,4 +54,18 @@ public class RecruitingTeamResponseDto {
 
     }
 
+    // 미리 한 번에 조회한 공모전(공모전 id -> 공모전), 팀장(팀 id -> 팀장)으로 목록 생성, 팀장이 없는 팀은 제외
+    public static List<RecruitingTeamResponseDto> createListOf(List<Team> teams, Map<String, ContestSummary> contests, Map<Long, User> teamLeaders) {
+        List<RecruitingTeamResponseDto> dtos = new ArrayList<>();
+        for (Team team : teams) {
+            User teamLeader = teamLeaders.get(team.getId());
+            if (teamLeader != null) {
+                ContestSummary contest = Optional.ofNullable(contests.get(team.getContestId()))
+                        .orElseThrow(() -> new EntityNotFoundException(CONTEST_NOT_FOUND));
+                dtos.add(new RecruitingTeamResponseDto(contest, team, teamLeader));
+            }
+        }
+        return dtos;
+    }
+
 }
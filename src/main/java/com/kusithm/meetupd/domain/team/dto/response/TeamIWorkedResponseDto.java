@@ -1,6 +1,6 @@
 package com.kusithm.meetupd.domain.team.dto.response;
 
-import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.team.entity.Team;
 import com.kusithm.meetupd.domain.user.entity.User;
 import lombok.Builder;
@@ -23,7 +23,7 @@ public class TeamIWorkedResponseDto {
     private ResponseTeamMemeberDto leaderInfo;
     private List<ResponseTeamMemeberDto> teamMemeberInfos;
 
-    public static TeamIWorkedResponseDto of(Team team, Contest contest, User leader, List<User> teamMember, Boolean isUserUploadReview) {
+    public static TeamIWorkedResponseDto of(Team team, ContestSummary contest, User leader, List<User> teamMember, Boolean isUserUploadReview) {
         DateFormat sdFormat = new SimpleDateFormat("yyyy-MM-dd");
         String formattedDate = sdFormat.format(team.getReviewDate());
 
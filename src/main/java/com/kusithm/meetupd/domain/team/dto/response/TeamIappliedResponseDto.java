@@ -1,6 +1,6 @@
 package com.kusithm.meetupd.domain.team.dto.response;
 
-import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.team.entity.Team;
 import com.kusithm.meetupd.domain.user.entity.LocationType;
 import com.kusithm.meetupd.domain.user.entity.User;
@@ -30,7 +30,7 @@ public class TeamIappliedResponseDto {
     public String endDate;//활동 종료 예정일
 
 
-    public static TeamIappliedResponseDto of(Team team, int teamMemberSize,Contest contest, User leader, Integer status) {
+    public static TeamIappliedResponseDto of(Team team, int teamMemberSize,ContestSummary contest, User leader, Integer status) {
 
         return TeamIappliedResponseDto.builder()
                 .contestId(contest.getId())
@@ -17,10 +17,19 @@ public class TeamResponseDto {
 
     private List<RecruitingTeamResponseDto> recruitingTeams;
 
+    private String nextCursor; //커서 페이징일 때 다음 페이지 커서, 마지막 페이지면 null
+
     public static TeamResponseDto ofCode(Page<Team> allRecruitingTeams, List<RecruitingTeamResponseDto> dto){
         return TeamResponseDto.builder()
                 .pageResponseDTO(new PageResponseDTO(allRecruitingTeams))
                 .recruitingTeams(dto)
                 .build();
     }
+
+    public static TeamResponseDto ofCursor(List<RecruitingTeamResponseDto> dto, String nextCursor) {
+        return TeamResponseDto.builder()
+                .recruitingTeams(dto)
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -14,6 +14,12 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_team_progress_applicant_count", columnList = "progress, applicant_count"),
+        @Index(name = "idx_team_progress_created_date", columnList = "progress, created_date, team_id"),
+        @Index(name = "idx_team_progress_review_date", columnList = "progress, review_date"),
+        @Index(name = "idx_team_contest_id_progress", columnList = "contest_id, progress")
+})
 public class Team extends BaseEntity {
 
     @Id
@@ -48,6 +54,14 @@ public class Team extends BaseEntity {
     @Column(name = "contest_id")
     private String contestId;
 
+    @Column(name = "applicant_count", nullable = false, columnDefinition = "int default 0")
+    @Builder.Default
+    private Integer applicantCount = 0; //팀원 + 지원자 수 (인기 팀 정렬용)
+
+    @Column(name = "filled_seats", nullable = false, columnDefinition = "int default 0")
+    @Builder.Default
+    private Integer filledSeats = 0; //승인된 팀원 수, head_count 를 넘지 않도록 조건부 UPDATE 로만 증가
+
     public void updateLocation(TeamLocation location) {
         this.location = location;
     }
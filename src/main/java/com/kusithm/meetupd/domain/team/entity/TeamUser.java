@@ -11,6 +11,11 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_team_user_user_id_role", columnList = "user_id, role")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_team_user_user_id_contest_id", columnNames = {"user_id", "contest_id"})
+})
 public class TeamUser extends BaseEntity {
 
     @Id
@@ -29,11 +34,16 @@ public class TeamUser extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // 공모전당 한 팀만 오픈/지원 가능하도록 팀의 공모전 id를 중복 저장 (반려된 경우 null)
+    @Column(name = "contest_id")
+    private String contestId;
+
     public static TeamUser toEntity(Integer role, Team team, User user) {
         return TeamUser.builder()
                 .role(role)
                 .team(team)
                 .user(user)
+                .contestId(team.getContestId())
                 .build();
     }
 }
@@ -0,0 +1,9 @@
+package com.kusithm.meetupd.domain.team.mysql;
+
+// 공모전별 팀 수 집계 결과
+public interface ContestTeamCount {
+
+    String getContestId();
+
+    Long getTeamCount();
+}
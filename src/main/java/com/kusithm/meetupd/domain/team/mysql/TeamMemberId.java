@@ -0,0 +1,9 @@
+package com.kusithm.meetupd.domain.team.mysql;
+
+// 팀 id, 팀 유저의 유저 id 쌍
+public interface TeamMemberId {
+
+    Long getTeamId();
+
+    Long getUserId();
+}
@@ -3,9 +3,14 @@ package com.kusithm.meetupd.domain.team.mysql;
 import com.kusithm.meetupd.domain.team.entity.Team;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -13,29 +18,99 @@ import java.util.Optional;
 public interface TeamRepository extends JpaRepository<Team, Long> {
     List<Team> findAllByProgress(int teamProgress);
     Page<Team> findAllByProgress(int teamProgress, Pageable pageable);
-    List<Team> findAllByContestIdAndProgress(String contestId, Integer teamProgress);
+    List<Team> findAllByContestIdAndProgressOrderByCreatedDateDesc(String contestId, Integer teamProgress);
     Optional<List<Team>> findAllByIdAndProgress(Long userId, Integer progress);
-    List<Team> findAllByReviewDateLessThanAndProgress(Date date, Integer Progress);
-    List<Team> findAllByContestIdAndProgressLessThanEqual(String contestId, Integer teamProgress);
 
-    @Query( "SELECT t " +
+    // 팀 + 팀장/팀원 + 유저를 한 번에 조회 (유저 직무/전공은 @BatchSize로 묶어서 조회)
+    @Query("SELECT DISTINCT t " +
             "FROM Team t " +
-            "WHERE t.progress = 1 " +
-            "AND t.id IN (" +
-            "SELECT tu.team.id " +
-            "FROM TeamUser tu " +
-            "WHERE tu.team = t " +
-            "AND tu.role IN (2, 4) " +
-            "GROUP BY tu.team.id " +
-            "ORDER BY COUNT(tu.team.id) DESC" +
-            ") " +
-            "ORDER BY (" +
-            "SELECT COUNT(tu2) " +
-            "FROM TeamUser tu2 " +
-            "WHERE tu2.team = t " +
-            "AND tu2.role IN (2, 4)" +
-            ") DESC, t.id DESC"
-
-    )
-    List<Team> findPopularTeams();
+            "LEFT JOIN FETCH t.location " +
+            "LEFT JOIN FETCH t.teamUsers tu " +
+            "LEFT JOIN FETCH tu.user u " +
+            "LEFT JOIN FETCH u.location " +
+            "LEFT JOIN FETCH u.ticket " +
+            "WHERE t.contestId = :contestId " +
+            "AND t.progress = :progress " +
+            "ORDER BY t.createdDate DESC, t.id DESC")
+    List<Team> findAllWithTeamUsersByContestIdAndProgress(@Param("contestId") String contestId, @Param("progress") Integer teamProgress);
+
+    // 팀 상세조회용, 팀 + 모든 팀 유저(팀장/팀원/지원자/반려자) + 유저를 한 번에 조회
+    @Query("SELECT DISTINCT t " +
+            "FROM Team t " +
+            "LEFT JOIN FETCH t.location " +
+            "LEFT JOIN FETCH t.teamUsers tu " +
+            "LEFT JOIN FETCH tu.user u " +
+            "LEFT JOIN FETCH u.location " +
+            "LEFT JOIN FETCH u.ticket " +
+            "WHERE t.id = :teamId")
+    Optional<Team> findWithTeamUsersById(@Param("teamId") Long teamId);
+
+    Slice<Team> findAllByProgressOrderByCreatedDateDescIdDesc(Integer teamProgress, Pageable pageable);
+
+    @Query("SELECT t " +
+            "FROM Team t " +
+            "WHERE t.progress = :progress " +
+            "AND (t.createdDate < :createdDate " +
+            "OR (t.createdDate = :createdDate AND t.id < :teamId)) " +
+            "ORDER BY t.createdDate DESC, t.id DESC")
+    Slice<Team> findAllByProgressAfterCursor(@Param("progress") Integer teamProgress,
+                                             @Param("createdDate") LocalDateTime createdDate,
+                                             @Param("teamId") Long teamId,
+                                             Pageable pageable);
+
+    List<Team> findAllByProgressAndApplicantCountGreaterThan(Integer teamProgress, Integer applicantCount, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Team t SET t.applicantCount = t.applicantCount + :delta WHERE t.id = :teamId")
+    int addApplicantCount(@Param("teamId") Long teamId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE team t " +
+            "SET t.applicant_count = (" +
+            "SELECT COUNT(*) FROM team_user tu " +
+            "WHERE tu.team_id = t.team_id " +
+            "AND tu.role IN (2, 4)), " +
+            "t.filled_seats = (" +
+            "SELECT COUNT(*) FROM team_user tu " +
+            "WHERE tu.team_id = t.team_id " +
+            "AND tu.role = 2)", nativeQuery = true)
+    int syncApplicantCountAndFilledSeats();
+
+    // 모집 중이고 자리가 남은 경우에만 한 자리 확보
+    @Modifying
+    @Query("UPDATE Team t SET t.filledSeats = t.filledSeats + 1 " +
+            "WHERE t.id = :teamId AND t.progress = :recruiting AND t.filledSeats < t.headCount")
+    int reserveSeat(@Param("teamId") Long teamId, @Param("recruiting") Integer recruiting);
+
+    // 자리가 다 찬 경우에만 모집 마감, 마감시킨 요청 하나만 1 반환
+    @Modifying
+    @Query("UPDATE Team t SET t.progress = :proceeding " +
+            "WHERE t.id = :teamId AND t.progress = :recruiting AND t.filledSeats >= t.headCount")
+    int closeRecruitmentIfFull(@Param("teamId") Long teamId, @Param("recruiting") Integer recruiting, @Param("proceeding") Integer proceeding);
+
+    @Modifying
+    @Query("UPDATE Team t SET t.progress = :proceeding " +
+            "WHERE t.id = :teamId AND t.progress = :recruiting")
+    int closeRecruitment(@Param("teamId") Long teamId, @Param("recruiting") Integer recruiting, @Param("proceeding") Integer proceeding);
+
+    // 회고 날짜가 지난 팀 id 를 id 순으로 청크 단위 조회
+    @Query("SELECT t.id FROM Team t " +
+            "WHERE t.reviewDate < :reviewDate AND t.progress = :progress AND t.id > :lastTeamId " +
+            "ORDER BY t.id")
+    List<Long> findIdsByReviewDateBeforeAndProgressAfterId(@Param("reviewDate") Date reviewDate,
+                                                         @Param("progress") Integer progress,
+                                                         @Param("lastTeamId") Long lastTeamId,
+                                                         Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Team t SET t.progress = :to, t.updatedDate = :now " +
+            "WHERE t.id IN :teamIds AND t.progress = :from")
+    int updateProgressByIdIn(@Param("teamIds") Collection<Long> teamIds,
+                             @Param("from") Integer from,
+                             @Param("to") Integer to,
+                             @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.contestId AS contestId, COUNT(t) AS teamCount FROM Team t " +
+            "WHERE t.progress = :progress GROUP BY t.contestId")
+    List<ContestTeamCount> countGroupByContestIdAndProgress(@Param("progress") Integer progress);
 }
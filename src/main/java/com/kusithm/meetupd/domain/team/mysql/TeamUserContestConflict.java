@@ -0,0 +1,13 @@
+package com.kusithm.meetupd.domain.team.mysql;
+
+// contest_id 를 채우면 (user_id, contest_id) 유니크 제약에 걸리는 팀 유저
+public interface TeamUserContestConflict {
+
+    Integer getTeamUserId();
+
+    Long getUserId();
+
+    Long getTeamId();
+
+    String getContestId();
+}
@@ -1,12 +1,32 @@
 package com.kusithm.meetupd.domain.team.mysql;
 
+import com.kusithm.meetupd.domain.team.entity.Team;
 import com.kusithm.meetupd.domain.team.entity.TeamUser;
+import com.kusithm.meetupd.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.kusithm.meetupd.domain.team.entity.TeamUserRoleType.TEAM_LEADER;
 
 public interface TeamUserRepository extends JpaRepository<TeamUser, Long> {
+
+    String CONTEST_ID_CONFLICTS_QUERY = "SELECT tu.team_user_id AS teamUserId, tu.user_id AS userId, tu.team_id AS teamId, t.contest_id AS contestId " +
+            "FROM team_user tu JOIN team t ON t.team_id = tu.team_id " +
+            "WHERE tu.contest_id IS NULL AND tu.role IN (1, 2, 4) " +
+            "AND EXISTS (SELECT 1 FROM team_user other JOIN team other_team ON other_team.team_id = other.team_id " +
+            "WHERE other.user_id = tu.user_id AND other.team_user_id <> tu.team_user_id " +
+            "AND other.role IN (1, 2, 4) AND other_team.contest_id = t.contest_id)";
+
     boolean existsByUserId(Long userId);
 
     boolean existsByRoleAndUserId(Integer role, Long userId);
@@ -19,15 +39,64 @@ public interface TeamUserRepository extends JpaRepository<TeamUser, Long> {
 
     List<TeamUser> findAllByTeamIdAndRole(Long teamId, Integer role);
 
-    List<TeamUser> findAllByUserIdAndRole(Long userId, Integer role);
+    List<TeamUser> findAllByTeamIdAndRoleLessThanEqualAndUserIdNot(Long teamId, Integer role, Long userId);
 
-    List<TeamUser> findAllByUserIdAndRoleGreaterThanEqual(Long userId, Integer role);
+    Optional<TeamUser> findByUserIdAndContestId(Long userId, String contestId);
 
-    List<TeamUser> findAllByUserIdAndRoleLessThanEqual(Long userId, Integer role);
+    @Query("SELECT tu FROM TeamUser tu JOIN FETCH tu.user WHERE tu.team.id IN :teamIds AND tu.role = :role")
+    List<TeamUser> findAllWithUserByTeamIdInAndRole(@Param("teamIds") Collection<Long> teamIds, @Param("role") Integer role);
 
-    List<TeamUser> findAllByTeamIdAndRoleLessThanEqual(Long teamId, Integer role);
+    // 팀 목록의 팀장을 한 번의 조회로, teamId -> 팀장
+    default Map<Long, User> findTeamLeadersByTeams(List<Team> teams) {
+        if (teams.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> teamIds = teams.stream().map(Team::getId).toList();
+        return findAllWithUserByTeamIdInAndRole(teamIds, TEAM_LEADER.getCode()).stream()
+                .collect(Collectors.toMap(teamUser -> teamUser.getTeam().getId(), TeamUser::getUser, (first, second) -> first));
+    }
 
-    List<TeamUser> findAllByTeamIdAndRoleLessThanEqualAndUserIdNot(Long teamId, Integer role, Long userId);
+    @Query("SELECT tu FROM TeamUser tu JOIN FETCH tu.team t LEFT JOIN FETCH t.location " +
+            "WHERE tu.user.id = :userId AND tu.role IN :roles AND t.progress = :progress " +
+            "ORDER BY t.updatedDate DESC, t.id DESC")
+    List<TeamUser> findAllWithTeamByUserIdAndRoleInAndTeamProgress(@Param("userId") Long userId, @Param("roles") Collection<Integer> roles, @Param("progress") Integer progress);
+
+    @Query("SELECT tu FROM TeamUser tu JOIN FETCH tu.user u LEFT JOIN FETCH u.location LEFT JOIN FETCH u.ticket " +
+            "WHERE tu.team.id IN :teamIds")
+    List<TeamUser> findAllWithUserByTeamIdIn(@Param("teamIds") Collection<Long> teamIds);
+
+    // contest_id 가 비어 있는 팀 유저 중, 같은 유저가 같은 공모전의 다른 팀에도 팀장/팀원/지원자로 있는 경우
+    @Query(value = CONTEST_ID_CONFLICTS_QUERY, nativeQuery = true)
+    List<TeamUserContestConflict> findContestIdConflicts();
+
+    // 위 충돌 대상은 제외하고 contest_id 채우기 (충돌 행은 직접 정리 후 다시 실행)
+    @Modifying
+    @Query(value = "UPDATE team_user tu " +
+            "JOIN team t ON t.team_id = tu.team_id " +
+            "SET tu.contest_id = t.contest_id " +
+            "WHERE tu.contest_id IS NULL " +
+            "AND tu.role IN (1, 2, 4) " +
+            // 같은 테이블을 수정하면서 조회하려면 파생 테이블로 먼저 구체화해야 함 (DISTINCT 로 병합 방지)
+            "AND tu.team_user_id NOT IN (SELECT conflict.teamUserId FROM " +
+            "(SELECT DISTINCT candidate.teamUserId FROM (" + CONTEST_ID_CONFLICTS_QUERY + ") candidate) conflict)", nativeQuery = true)
+    int syncContestId();
+
+    // 지원자 상태인 경우에만 승인/반려 (동시 요청 중 하나만 반영)
+    @Modifying
+    @Query("UPDATE TeamUser tu SET tu.role = 2, tu.updatedDate = :now " +
+            "WHERE tu.teamUserId = :teamUserId AND tu.role = 4")
+    int approveVolunteer(@Param("teamUserId") Integer teamUserId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TeamUser tu SET tu.role = 3, tu.contestId = NULL, tu.updatedDate = :now " +
+            "WHERE tu.teamUserId = :teamUserId AND tu.role = 4")
+    int rejectVolunteer(@Param("teamUserId") Integer teamUserId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT tu FROM TeamUser tu JOIN FETCH tu.user JOIN FETCH tu.team " +
+            "WHERE tu.team.id IN :teamIds AND tu.role <= :role")
+    List<TeamUser> findAllWithUserAndTeamByTeamIdInAndRoleLessThanEqual(@Param("teamIds") Collection<Long> teamIds, @Param("role") Integer role);
 
-    List<TeamUser> findAllByUserId(Long userId);
+    @Query("SELECT tu.team.id AS teamId, tu.user.id AS userId FROM TeamUser tu " +
+            "WHERE tu.team.contestId = :contestId AND tu.team.progress <= :progress")
+    List<TeamMemberId> findTeamMemberIdsByContestIdAndProgressLessThanEqual(@Param("contestId") String contestId, @Param("progress") Integer progress);
 }
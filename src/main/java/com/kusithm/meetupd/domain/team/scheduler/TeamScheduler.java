@@ -1,34 +1,120 @@
 package com.kusithm.meetupd.domain.team.scheduler;
 
+import com.kusithm.meetupd.common.mongo.DataMigration;
+import com.kusithm.meetupd.common.mongo.DataMigrationRepository;
+import com.kusithm.meetupd.common.redis.lock.RedisLeaseLock;
 import com.kusithm.meetupd.domain.contest.service.ContestService;
-import com.kusithm.meetupd.domain.team.entity.Team;
+import com.kusithm.meetupd.domain.team.mysql.TeamUserContestConflict;
 import com.kusithm.meetupd.domain.team.service.TeamService;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.io.UnsupportedEncodingException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
 @EnableAsync
 @Component
-public class TeamScheduler {
+public class TeamScheduler implements SmartInitializingSingleton {
 
     private final TeamService teamService;
     private final ContestService contestService;
+    private final RedisLeaseLock redisLeaseLock;
+    private final DataMigrationRepository dataMigrationRepository;
+
+    private static final int TEAM_END_CHUNK_SIZE = 500;
+    private static final String TEAM_END_LOCK = "team-progress-end";
+    private static final String TEAM_USER_COUNTS_LOCK = "team-user-counts";
+    private static final String TEAM_USER_CONTEST_ID_MIGRATION = "team-user-contest-id";
+    private static final String TEAM_FILLED_SEATS_MIGRATION = "team-filled-seats";
+    private static final Duration FILLED_SEATS_MIGRATION_WAIT = Duration.ofSeconds(10);
+    private static final Duration SCHEDULE_LOCK_LEASE = Duration.ofMinutes(1);
+    private static final Duration SCHEDULE_LOCK_AT_LEAST_FOR = Duration.ofSeconds(30);   // 인스턴스 간 cron 실행 시각 차이보다 길게
 
     // 팀 리뷰날짜 확인하여 지났으면 팀 활동이 종료되었으니 리뷰보내라고 메일전송
+    // 한 번에 모든 팀을 올리지 않고 id 순으로 청크마다 종료 처리(트랜잭션) -> 메일 전송
+    // 여러 인스턴스 중 락을 얻은 한 곳에서만 실행
     @Scheduled(cron = "0 1 0 * * *")
-    public void scheduleTaskUpdateTeamProgressEnd() throws MessagingException, UnsupportedEncodingException {
-        List<Team> teams = teamService.updateTeamProgressEnd();
-        log.info("updateTeamProgressEnd schedule tasks - {}", LocalDate.now());
-        teams.forEach(it -> log.info("updated team id - {}", it.getId()));
+    public void scheduleTaskUpdateTeamProgressEnd() {
+        redisLeaseLock.runScheduledWithLock(TEAM_END_LOCK, SCHEDULE_LOCK_LEASE, SCHEDULE_LOCK_AT_LEAST_FOR, this::updateTeamProgressEnd);
+    }
+
+    private void updateTeamProgressEnd(long lockToken) {
+        Date reviewDate = teamService.getTeamEndReviewDate();
+        Long lastTeamId = 0L;
+        int totalTeamCount = 0;
+        while (redisLeaseLock.isLatestLockToken(TEAM_END_LOCK, lockToken)) { //락을 잃었으면 다음 청크부터 중단
+            long updateStart = System.currentTimeMillis();
+            List<Long> teamIds = teamService.updateTeamProgressEndChunk(reviewDate, lastTeamId, TEAM_END_CHUNK_SIZE);
+            if (teamIds.isEmpty()) {
+                break;
+            }
+            long emailStart = System.currentTimeMillis();
+            int emailCount = teamService.sendTeamEndEmails(teamIds);
+            long end = System.currentTimeMillis();
+            log.info("updateTeamProgressEnd chunk - teams {} (id {} ~ {}), update {}ms, emails {} queued {}ms",
+                    teamIds.size(), teamIds.get(0), teamIds.get(teamIds.size() - 1), emailStart - updateStart, emailCount, end - emailStart);
+            totalTeamCount += teamIds.size();
+            lastTeamId = teamIds.get(teamIds.size() - 1);
+        }
+        log.info("updateTeamProgressEnd schedule tasks - {}, ended teams - {}, lock token - {}", LocalDate.now(), totalTeamCount, lockToken);
+    }
+
+    // 인기 팀 정렬용 팀원 + 지원자 수, 승인된 팀원 수를 team_user 기준으로 보정 (배포 직후 1회 + 매일)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 0 * * *")
+    public void scheduleTaskSyncTeamUserCounts() {
+        redisLeaseLock.runScheduledWithLock(TEAM_USER_COUNTS_LOCK, SCHEDULE_LOCK_LEASE, SCHEDULE_LOCK_AT_LEAST_FOR, lockToken -> {
+            int updatedTeamCount = teamService.syncTeamUserCounts();
+            log.info("syncTeamUserCounts schedule tasks - {}, updated teams - {}", LocalDate.now(), updatedTeamCount);
+        });
+    }
+
+    // 기존 팀의 filled_seats 는 컬럼 기본값 0 이라 채우기 전에 승인하면 head_count 를 넘을 수 있으므로
+    // 웹 서버가 요청을 받기 전(싱글톤 생성 직후)에 한 번 채우고 완료 표시, 다른 인스턴스가 채우는 중이면 끝날 때까지 대기
+    @Override
+    public void afterSingletonsInstantiated() {
+        while (!dataMigrationRepository.existsById(TEAM_FILLED_SEATS_MIGRATION)) {
+            redisLeaseLock.runWithLock(TEAM_USER_COUNTS_LOCK, SCHEDULE_LOCK_LEASE, FILLED_SEATS_MIGRATION_WAIT, lockToken -> {
+                if (dataMigrationRepository.existsById(TEAM_FILLED_SEATS_MIGRATION)) {
+                    return;
+                }
+                int updatedTeamCount = teamService.syncTeamUserCounts();
+                log.info("backfillFilledSeats - updated teams - {}", updatedTeamCount);
+                dataMigrationRepository.save(DataMigration.completed(TEAM_FILLED_SEATS_MIGRATION));
+            });
+        }
+    }
+
+    // 배포 직후 1회, 기존 팀 유저의 contest_id 채우기
+    // 같은 공모전에 중복 소속되어 채울 수 없는 팀 유저가 있으면 목록을 남기고 완료 표시를 하지 않음 (정리 후 재배포 시 다시 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncTeamUserContestId() {
+        if (dataMigrationRepository.existsById(TEAM_USER_CONTEST_ID_MIGRATION)) {
+            return;
+        }
+        redisLeaseLock.runWithLock(TEAM_USER_CONTEST_ID_MIGRATION, SCHEDULE_LOCK_LEASE, lockToken -> {
+            if (dataMigrationRepository.existsById(TEAM_USER_CONTEST_ID_MIGRATION)) {
+                return;
+            }
+            List<TeamUserContestConflict> conflicts = teamService.findTeamUserContestIdConflicts();
+            conflicts.forEach(conflict -> log.warn("syncTeamUserContestId conflict - team user {}, user {}, team {}, contest {}",
+                    conflict.getTeamUserId(), conflict.getUserId(), conflict.getTeamId(), conflict.getContestId()));
+            int updatedTeamUserCount = teamService.syncTeamUserContestId();
+            log.info("syncTeamUserContestId - {}, updated team users - {}, conflicts - {}", LocalDate.now(), updatedTeamUserCount, conflicts.size());
+            if (conflicts.isEmpty()) {
+                dataMigrationRepository.save(DataMigration.completed(TEAM_USER_CONTEST_ID_MIGRATION));
+            }
+        });
     }
 
     // 공모전 모집 일자 마감됐으면 해당 공모전에 팀들 상태 활동중으로 변경하기 11/22 모집 완료시 바로 활동중으로 팀 상태 변경하기로함
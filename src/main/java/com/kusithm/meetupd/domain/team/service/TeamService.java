@@ -4,8 +4,14 @@ import com.kusithm.meetupd.common.error.ConflictException;
 import com.kusithm.meetupd.common.error.EntityNotFoundException;
 import com.kusithm.meetupd.common.error.ForbiddenException;
 import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestSummary;
 import com.kusithm.meetupd.domain.contest.mongo.ContestRepository;
+import com.kusithm.meetupd.domain.contest.service.ContestBatchLoader;
+import com.kusithm.meetupd.domain.contest.service.ContestService;
+import com.kusithm.meetupd.domain.contest.service.ContestTeamNumService;
+import com.kusithm.meetupd.domain.email.dto.EndTeamEmailDto;
 import com.kusithm.meetupd.domain.email.service.EmailService;
+import com.kusithm.meetupd.domain.review.entity.UserReviewedTeam;
 import com.kusithm.meetupd.domain.review.mysql.UserReviewedTeamRepository;
 import com.kusithm.meetupd.domain.team.dto.TeamIOpenedResponseDto;
 import com.kusithm.meetupd.domain.team.dto.request.PageDto;
@@ -14,9 +20,12 @@ import com.kusithm.meetupd.domain.team.dto.request.RequestCreateTeamDto;
 import com.kusithm.meetupd.domain.team.dto.request.TeamProceedResponseDto;
 import com.kusithm.meetupd.domain.team.dto.response.*;
 import com.kusithm.meetupd.domain.team.entity.Team;
+import com.kusithm.meetupd.domain.team.entity.TeamProgressType;
 import com.kusithm.meetupd.domain.team.entity.TeamUser;
 import com.kusithm.meetupd.domain.team.mysql.TeamRepository;
+import com.kusithm.meetupd.domain.team.mysql.TeamUserContestConflict;
 import com.kusithm.meetupd.domain.team.mysql.TeamUserRepository;
+import com.kusithm.meetupd.domain.team.util.TeamCursor;
 import com.kusithm.meetupd.domain.user.dto.response.ReviewPageUserResponseDto;
 import com.kusithm.meetupd.domain.user.dto.response.UserReviewResponseDto;
 import com.kusithm.meetupd.domain.user.entity.User;
@@ -24,18 +33,20 @@ import com.kusithm.meetupd.domain.user.mysql.UserRepository;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.bson.types.ObjectId;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
 import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -52,9 +63,11 @@ public class TeamService {
     private final TeamUserRepository teamUserRepository;
     private final UserRepository userRepository;
     private final ContestRepository contestRepository;
-    private final MongoTemplate mongoTemplate;
     private final EmailService emailService;
     private final UserReviewedTeamRepository userReviewedTeamRepository;
+    private final ContestBatchLoader contestBatchLoader;
+    private final ContestTeamNumService contestTeamNumService;
+    private final ContestService contestService;
 
     //진행상황에 맞는 팀 찾기
     public Page<Team> findTeamsCondition(PageDto dto, Integer teamProgress) {
@@ -67,15 +80,26 @@ public class TeamService {
         return teamRepository.findAllByProgress(teamProgress, pageable);
     }
 
+    //진행상황에 맞는 팀 찾기 (커서 페이징, count 쿼리 없음)
+    public Slice<Team> findTeamsByCursor(PageDto dto, Integer teamProgress) {
+        Pageable pageable = PageRequest.of(0, dto.getSize());
+        if (!StringUtils.hasText(dto.getCursor())) {
+            return teamRepository.findAllByProgressOrderByCreatedDateDescIdDesc(teamProgress, pageable);
+        }
+        TeamCursor cursor = TeamCursor.decode(dto.getCursor());
+        return teamRepository.findAllByProgressAfterCursor(teamProgress, cursor.getCreatedDate(), cursor.getTeamId(), pageable);
+    }
+
     //해당 공모전에서 모집중인 팀 리스트
     public List<RecruitingContestTeamResponseDto> findContestRecruitingTeams(String contestId, Integer teamProgress) {
 
         List<RecruitingContestTeamResponseDto> dto = new ArrayList<>();
 
-        List<Team> teamByContentIdAndProgress = findTeamByContentIdAndProgress(contestId, teamProgress);
+        List<Team> teamByContentIdAndProgress = teamRepository.findAllWithTeamUsersByContestIdAndProgress(contestId, teamProgress);
 
         for (Team teams : teamByContentIdAndProgress) {
-            User leader = teams.getTeamUsers().stream().filter(v -> v.getRole().equals(TEAM_LEADER.getCode())).map(TeamUser::getUser).findFirst().get();
+            User leader = teams.getTeamUsers().stream().filter(v -> v.getRole().equals(TEAM_LEADER.getCode())).map(TeamUser::getUser).findFirst()
+                    .orElseThrow(() -> new ForbiddenException(USER_NOT_TEAMLEADER));
 
             List<User> member = teams.getTeamUsers().stream().filter(v -> v.getRole().equals(TEAM_MEMBER.getCode())).map(TeamUser::getUser).sorted(Comparator.comparing(User::getUpdatedDate).reversed()).collect(Collectors.toList());
 
@@ -87,18 +111,18 @@ public class TeamService {
 
     //모집중인 팀 찾기
     public TeamResponseDto findRecruitingTeams(Page<Team> allRecruitingTeams) {
-        List<RecruitingTeamResponseDto> dto = new ArrayList<>();
-        for (Team team : allRecruitingTeams.getContent()) {
-            List<TeamUser> teamUsers = team.getTeamUsers();
-            Contest contest = findContest(team.getContestId());
-
-            for (TeamUser teamuser : teamUsers) {
-                if (teamuser.getRole().equals(TEAM_LEADER.getCode())) {
-                    dto.add(new RecruitingTeamResponseDto(contest, team, teamuser.getUser()));
-                }
-            }
-        }
-        return TeamResponseDto.ofCode(allRecruitingTeams, dto);
+        return TeamResponseDto.ofCode(allRecruitingTeams, createRecruitingTeamResponseDtos(allRecruitingTeams.getContent()));
+    }
+
+    //모집중인 팀 찾기 (커서 페이징)
+    public TeamResponseDto findRecruitingTeamsByCursor(Slice<Team> recruitingTeams) {
+        List<Team> teams = recruitingTeams.getContent();
+        String nextCursor = recruitingTeams.hasNext() ? TeamCursor.of(teams.get(teams.size() - 1)).encode() : null;
+        return TeamResponseDto.ofCursor(createRecruitingTeamResponseDtos(teams), nextCursor);
+    }
+
+    private List<RecruitingTeamResponseDto> createRecruitingTeamResponseDtos(List<Team> teams) {
+        return RecruitingTeamResponseDto.createListOf(teams, loadContestsOfTeams(teams), teamUserRepository.findTeamLeadersByTeams(teams));
     }
 
     private Contest findContest(String contestId) {
@@ -106,13 +130,41 @@ public class TeamService {
                 .orElseThrow(() -> new EntityNotFoundException(CONTEST_NOT_FOUND));
     }
 
+    // 목록의 팀들이 속한 공모전을 한 번에 조회
+    private Map<String, ContestSummary> loadContestsOfTeams(List<Team> teams) {
+        return contestBatchLoader.loadContests(teams.stream().map(Team::getContestId).toList());
+    }
+
+    private ContestSummary getLoadedContest(Map<String, ContestSummary> contests, String contestId) {
+        return Optional.ofNullable(contests.get(contestId))
+                .orElseThrow(() -> new EntityNotFoundException(CONTEST_NOT_FOUND));
+    }
+
     //팀 상세조회
     public TeamDetailResponseDto findTeamDetail(Long userId, Long teamId) {
-        Team team = findTeamById(teamId);
-        User teamLeader = findTeamLeader(teamId);
-        List<User> teamMember = findTeamMember(teamId);
-        int status = decideStatus(userId, teamLeader.getId(), teamId);
-        return TeamDetailResponseDto.of(team, findTeamLeader(teamId), teamMember, status);
+        Team team = teamRepository.findWithTeamUsersById(teamId)
+                .orElseThrow(() -> new EntityNotFoundException(TEAM_NOT_FOUND));
+        List<TeamUser> teamUsers = team.getTeamUsers();
+        User teamLeader = findUsersByRole(teamUsers, TEAM_LEADER.getCode()).stream().findFirst()
+                .orElseThrow(() -> new ForbiddenException(USER_NOT_TEAMLEADER));
+        List<User> teamMember = findUsersByRole(teamUsers, TEAM_MEMBER.getCode());
+        int status = decideStatus(userId, teamLeader.getId(), findTeamUserOfUser(teamUsers, userId));
+        return TeamDetailResponseDto.of(team, teamLeader, teamMember, status);
+    }
+
+    // 이미 조회된 팀 유저 중 역할에 맞는 유저 (최근 수정순)
+    private List<User> findUsersByRole(List<TeamUser> teamUsers, Integer role) {
+        return teamUsers.stream()
+                .filter(teamUser -> teamUser.getRole().equals(role))
+                .map(TeamUser::getUser)
+                .sorted(Comparator.comparing(User::getUpdatedDate).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private Optional<TeamUser> findTeamUserOfUser(List<TeamUser> teamUsers, Long userId) {
+        return teamUsers.stream()
+                .filter(teamUser -> teamUser.getUser().getId().equals(userId))
+                .findFirst();
     }
 
     public void updateTeamProgressProceeding(String contestId) {
@@ -120,11 +172,10 @@ public class TeamService {
         teams.forEach(team -> team.updateProgress(PROCEEDING));
     }
 
-    private int decideStatus(Long userId, Long leaderId, Long teamId) {
+    private int decideStatus(Long userId, Long leaderId, Optional<TeamUser> teamUser) {
         if (validateIsUserLeader(userId, leaderId)) {
             return 1;   //내가 오픈한 팀인 경우
         }
-        Optional<TeamUser> teamUser = findTeamUserByUserIdAndTeamId(userId, teamId);
         if (validateUserInTeam(teamUser)) {
             return 2;   //내가 지원한 팀이 아닌경우
         }
@@ -153,19 +204,13 @@ public class TeamService {
         return teamUser.get().getRole();
     }
 
-    private List<User> findTeamMember(Long teamId) {
-        return findTeamUserByRoleAndTeamId(TEAM_MEMBER.getCode(), teamId).stream().map(TeamUser::getUser).sorted(Comparator.comparing(User::getUpdatedDate).reversed()).collect(Collectors.toList());
-    }
-
     private User findTeamLeader(Long teamId) {
         return findTeamUserByRoleAndTeamId(TEAM_LEADER.getCode(), teamId).stream().map(TeamUser::getUser).findFirst()
                 .orElseThrow(() -> new ForbiddenException(USER_NOT_TEAMLEADER));
     }
 
     public List<Team> findTeamByContentIdAndProgress(String contestId, Integer teamProgress) {
-        return teamRepository.findAllByContestIdAndProgress(contestId, teamProgress).stream()
-                .sorted(Comparator.comparing(Team::getCreatedDate).reversed())
-                .toList();
+        return teamRepository.findAllByContestIdAndProgressOrderByCreatedDateDesc(contestId, teamProgress);
     }
 
     private List<TeamUser> findTeamUserByRoleAndTeamId(Integer role, Long teamId) {
@@ -177,50 +222,75 @@ public class TeamService {
         User user = findUserById(userId);
         Team team = saveTeam(teamDto);
         team.getLocation().changeTeam(team);
-        Query query = createFindContestByIdQuery(team.getContestId());
-        Update update = new Update();
-        increaseContestRecruitTeamNumberInUpdate(update);
         saveTeamUser(TEAM_LEADER.getCode(), user, team);
-        mongoTemplate.updateMulti(query, update, Contest.class);
+        contestTeamNumService.recordDelta(team.getContestId(), 1);
     }
 
-    private void verifyCanOpenTeamAndCanApplyTeam(Long userId, String contestId) {
-        List<TeamUser> teamUsers = teamUserRepository.findAllByUserId(userId);
-        for (TeamUser teamUser : teamUsers) {
-            if (teamUser.getTeam().getContestId().equals(contestId)) {
-                if (teamUser.getRole().equals(TEAM_LEADER.getCode())) //해당 공모전에 오픈한 팀이 있는 경우
-                    throw new ConflictException(ALREADY_USER_OPEN_TEAM);
-                else if ((teamUser.getRole().equals(TEAM_MEMBER.getCode()) || teamUser.getRole().equals(VOLUNTEER.getCode()))) //해당 공모전의 멤버이거나, 지원한 경우
-                    throw new ConflictException(ALREADY_USER_APPLY_CONTEST);
+    // 메인 추천의 인기 팀 (지원자 수, 승인된 팀원 수) 이 바뀐 경우 커밋 후 무효화
+    // 모집 마감/팀 오픈처럼 team_num 이 바뀌는 경우는 outbox flush 후 무효화
+    private void invalidateMainRecommendationAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                contestService.invalidateMainRecommendation();
             }
-        }
+        });
+    }
+
+    private void verifyCanOpenTeamAndCanApplyTeam(Long userId, String contestId) {
+        teamUserRepository.findByUserIdAndContestId(userId, contestId)
+                .ifPresent(teamUser -> throwAlreadyInContest(teamUser.getRole()));
+    }
+
+    private void throwAlreadyInContest(Integer role) {
+        if (role.equals(TEAM_LEADER.getCode())) //해당 공모전에 오픈한 팀이 있는 경우
+            throw new ConflictException(ALREADY_USER_OPEN_TEAM);
+        throw new ConflictException(ALREADY_USER_APPLY_CONTEST); //해당 공모전의 멤버이거나, 지원한 경우
     }
 
     public void applyTeam(Long userId, Long teamId, String contestId) {
         verifyCanOpenTeamAndCanApplyTeam(userId,contestId);
         saveTeamUser(VOLUNTEER.getCode(), findUserById(userId), findTeamById(teamId));
+        updateApplicantCount(teamId, 1);
     }
 
     public void changeRole(Long userId, RequestChangeRoleDto requestChangeRoleDto) throws MessagingException, UnsupportedEncodingException {
         Long teamLeaderId = findTeamLeader(requestChangeRoleDto.getTeamId()).getId();
-        Long memberId = requestChangeRoleDto.getMemberId();
-        if (userId.equals(teamLeaderId)) { //팀장이라면 권한 수정
-            TeamUser teamUser = findTeamUserByUserIdAndTeamId(memberId, requestChangeRoleDto.getTeamId()).orElseThrow(() -> new EntityNotFoundException(TEAM_USER_NOT_FOUND));
-            validateTeamProgressRecruiting(teamUser.getTeam());
-            validateUserRoleIsVolunteer(teamUser);
-            teamUser.setRole(requestChangeRoleDto.getRole());
-        } else throw new ConflictException(USER_NOT_HAVE_AUTHORITY);
-        if (requestChangeRoleDto.getRole().equals(TEAM_MEMBER.getCode())) {
-            Team team = findTeamById(requestChangeRoleDto.getTeamId());
-            User user = findUserById(memberId);
-            Contest contest = findContest(team.getContestId());
-            emailService.sendJoinTeamEmail(user.getEmail(), contest.getTitle(), team.getChatLink());
-            List<TeamUser> teamMembers = findTeamUserByTeamIdAndRole(requestChangeRoleDto.getTeamId(), TEAM_MEMBER.getCode());
-            if (teamMembers.size() == team.getHeadCount()) {
-                team.updateProgress(PROCEEDING);
-                contestTeamCountDecrease(team);
-            }
-        }
+        if (!userId.equals(teamLeaderId)) //팀장만 권한 수정 가능
+            throw new ConflictException(USER_NOT_HAVE_AUTHORITY);
+        TeamUser teamUser = findTeamUserByUserIdAndTeamId(requestChangeRoleDto.getMemberId(), requestChangeRoleDto.getTeamId()).orElseThrow(() -> new EntityNotFoundException(TEAM_USER_NOT_FOUND));
+        validateTeamProgressRecruiting(teamUser.getTeam());
+        validateUserRoleIsVolunteer(teamUser);
+        Integer role = requestChangeRoleDto.getRole();
+        if (role.equals(TEAM_MEMBER.getCode())) { //지원자 -> 승인
+            approveVolunteer(teamUser);
+        } else if (role.equals(FAILED.getCode())) { //지원자 -> 반려
+            rejectVolunteer(teamUser);
+        } else throw new ForbiddenException(USER_ROLE_NOT_CHANGE);
+    }
+
+    // 역할 변경과 자리 확보 모두 조건부 UPDATE, 동시에 승인해도 head_count 를 넘지 않고 마감은 한 번만
+    private void approveVolunteer(TeamUser teamUser) throws MessagingException, UnsupportedEncodingException {
+        Team team = findTeamUserByTeam(teamUser);
+        validateRoleChanged(teamUserRepository.approveVolunteer(teamUser.getTeamUserId(), LocalDateTime.now()));
+        if (teamRepository.reserveSeat(team.getId(), RECRUITING.getNumber()) == 0)
+            throw new ConflictException(TEAM_ALREADY_FULL);
+        if (teamRepository.closeRecruitmentIfFull(team.getId(), RECRUITING.getNumber(), PROCEEDING.getNumber()) == 1)
+            contestTeamCountDecrease(team);
+        invalidateMainRecommendationAfterCommit();
+        Contest contest = findContest(team.getContestId());
+        emailService.sendJoinTeamEmail(teamUser.getUser().getEmail(), contest.getTitle(), team.getChatLink());
+    }
+
+    private void rejectVolunteer(TeamUser teamUser) {
+        validateRoleChanged(teamUserRepository.rejectVolunteer(teamUser.getTeamUserId(), LocalDateTime.now()));
+        updateApplicantCount(findTeamUserByTeam(teamUser).getId(), -1);
+    }
+
+    // 다른 요청이 먼저 지원자 상태를 바꾼 경우
+    private void validateRoleChanged(int updatedCount) {
+        if (updatedCount == 0)
+            throw new ForbiddenException(USER_ROLE_NOT_CHANGE);
     }
 
 
@@ -231,6 +301,9 @@ public class TeamService {
             throw new ForbiddenException(USER_NOT_TEAMLEADER);
         }
         Team team = findTeamById(teamId);
+        if (team.getProgress().equals(RECRUITING.getNumber())) { //모집 중인 팀만 team_num 에 포함
+            contestTeamCountDecrease(team);
+        }
         teamRepository.delete(team);
     }
 
@@ -240,10 +313,9 @@ public class TeamService {
         if (!teamUser.getRole().equals(TEAM_LEADER.getCode())) {
             throw new ForbiddenException(USER_NOT_TEAMLEADER);
         }
-        Team team = findTeamById(teamId);
-        validateTeamProgressRecruiting(team);
-        team.updateProgress(PROCEEDING);
-        contestTeamCountDecrease(team);
+        if (teamRepository.closeRecruitment(teamId, RECRUITING.getNumber(), PROCEEDING.getNumber()) == 0)
+            throw new ForbiddenException(TEAM_PROGRESS_NOT_RECRUITING);
+        contestTeamCountDecrease(findTeamById(teamId));
     }
 
     public void cancelApplyTeam(Long userId, Long teamId) {
@@ -253,20 +325,19 @@ public class TeamService {
             throw new ForbiddenException(USER_NOT_APPLY_STATUS);
         }
         teamUserRepository.delete(teamUser);
+        updateApplicantCount(teamId, -1);
     }
 
     public List<TeamIOpenedResponseDto> findTeamIOpen(Long userId) {
         List<TeamIOpenedResponseDto> dtos = new ArrayList<>();
-        Integer role = TEAM_LEADER.getCode();
-        List<TeamUser> teamUsersIOpened = findTeamUserByUserIdAndRole(userId, role);
-        for (TeamUser teamUser : teamUsersIOpened) {
-            Team team = findTeamUserByTeam(teamUser);
-            Long teamId = team.getId();
-            if (isTeamEqualsProgress(team, RECRUITING.getNumber())) {
-                List<TeamUser> teamMember = findTeamUserByTeamIdAndRole(teamId, TEAM_MEMBER.getCode());
-                List<TeamUser> applyMember = findTeamUserByTeamIdAndRole(teamId, VOLUNTEER.getCode());
-                dtos.add(TeamIOpenedResponseDto.of(team, findUserThroughTeamUser(teamMember), findUserThroughTeamUser(applyMember), findContest(team.getContestId())));
-            }
+        List<Team> teamsIOpened = findTeamsOfUser(userId, List.of(TEAM_LEADER.getCode()), RECRUITING);
+        Map<String, ContestSummary> contests = loadContestsOfTeams(teamsIOpened);
+        Map<Long, List<TeamUser>> teamUsersByTeam = findTeamUsersGroupByTeam(teamsIOpened);
+        for (Team team : teamsIOpened) {
+            List<TeamUser> teamUsers = teamUsersByTeam.getOrDefault(team.getId(), List.of());
+            List<TeamUser> teamMember = findTeamUsersByRole(teamUsers, TEAM_MEMBER.getCode());
+            List<TeamUser> applyMember = findTeamUsersByRole(teamUsers, VOLUNTEER.getCode());
+            dtos.add(TeamIOpenedResponseDto.of(team, findUserThroughTeamUser(teamMember), findUserThroughTeamUser(applyMember), getLoadedContest(contests, team.getContestId())));
         }
         return dtos;
     }
@@ -284,50 +355,86 @@ public class TeamService {
 
     public List<TeamIappliedResponseDto> appliedTeam(Long userId) {
         List<TeamIappliedResponseDto> dtos = new ArrayList<>();
-        List<TeamUser> appliedReamUsers = findTeamUserIApplied(userId, TEAM_MEMBER.getCode());
+        List<TeamUser> appliedReamUsers = findTeamUsersOfUser(userId, List.of(TEAM_MEMBER.getCode(), FAILED.getCode(), VOLUNTEER.getCode()), RECRUITING);
+        List<Team> appliedTeams = appliedReamUsers.stream().map(this::findTeamUserByTeam).toList();
+        Map<String, ContestSummary> contests = loadContestsOfTeams(appliedTeams);
+        Map<Long, List<TeamUser>> teamUsersByTeam = findTeamUsersGroupByTeam(appliedTeams);
         for (TeamUser teamUser : appliedReamUsers) {
             Team team = findTeamUserByTeam(teamUser);
-            if (isTeamEqualsProgress(team, RECRUITING.getNumber())) {
-                dtos.add(TeamIappliedResponseDto.of(team, findTeamUserByTeamIdAndRole(team.getId(), TEAM_MEMBER.getCode()).size(), findContest(team.getContestId()), findTeamLeader(team.getId()), teamUser.getRole()));
-            }
+            List<TeamUser> teamUsers = teamUsersByTeam.getOrDefault(team.getId(), List.of());
+            dtos.add(TeamIappliedResponseDto.of(team, findTeamUsersByRole(teamUsers, TEAM_MEMBER.getCode()).size(), getLoadedContest(contests, team.getContestId()), findLoadedTeamLeader(teamUsers), teamUser.getRole()));
         }
         return dtos;
     }
 
     public List<TeamProceedResponseDto> proceedTeam(Long userId) {
         List<TeamProceedResponseDto> dtos = new ArrayList<>();
-        List<TeamUser> teamUserProceed = findTeamMemberAndTeamUser(userId);
-        for (TeamUser teamUser : teamUserProceed) {
-            Team team = findTeamUserByTeam(teamUser);
-            if (isTeamEqualsProgress(team, PROCEEDING.getNumber())) {
-                Long teamId = team.getId();
-                dtos.add(TeamProceedResponseDto.of(team, findContest(team.getContestId()), findTeamLeader(teamId), findTeamMember(teamId)));
-            }
+        List<Team> teamsProceed = findTeamsOfUser(userId, List.of(TEAM_LEADER.getCode(), TEAM_MEMBER.getCode()), PROCEEDING);
+        Map<String, ContestSummary> contests = loadContestsOfTeams(teamsProceed);
+        Map<Long, List<TeamUser>> teamUsersByTeam = findTeamUsersGroupByTeam(teamsProceed);
+        for (Team team : teamsProceed) {
+            List<TeamUser> teamUsers = teamUsersByTeam.getOrDefault(team.getId(), List.of());
+            dtos.add(TeamProceedResponseDto.of(team, getLoadedContest(contests, team.getContestId()), findLoadedTeamLeader(teamUsers), findUsersByRole(teamUsers, TEAM_MEMBER.getCode())));
         }
         return dtos;
     }
 
     public List<TeamIWorkedResponseDto> workedTeam(Long userId) {
         List<TeamIWorkedResponseDto> dtos = new ArrayList<>();
-        List<TeamUser> teamMemberAndTeamUser = findTeamMemberAndTeamUser(userId);
-        for (TeamUser teamUser : teamMemberAndTeamUser) {
-            Team team = findTeamUserByTeam(teamUser);
-            if (isTeamEqualsProgress(team, PROGRESS_ENDED.getNumber())) {
-                Long teamId = team.getId();
-                dtos.add(TeamIWorkedResponseDto.of(team, findContest(team.getContestId()), findTeamLeader(teamId), findTeamMember(teamId), checkUserReviewThisTeam(userId, teamId)));
-            }
+        List<Team> teamsWorked = findTeamsOfUser(userId, List.of(TEAM_LEADER.getCode(), TEAM_MEMBER.getCode()), PROGRESS_ENDED);
+        Map<String, ContestSummary> contests = loadContestsOfTeams(teamsWorked);
+        Map<Long, List<TeamUser>> teamUsersByTeam = findTeamUsersGroupByTeam(teamsWorked);
+        Set<Long> reviewedTeamIds = findReviewedTeamIds(userId, teamsWorked);
+        for (Team team : teamsWorked) {
+            Long teamId = team.getId();
+            List<TeamUser> teamUsers = teamUsersByTeam.getOrDefault(teamId, List.of());
+            dtos.add(TeamIWorkedResponseDto.of(team, getLoadedContest(contests, team.getContestId()), findLoadedTeamLeader(teamUsers), findUsersByRole(teamUsers, TEAM_MEMBER.getCode()), reviewedTeamIds.contains(teamId)));
         }
         return dtos;
     }
 
-    private boolean isTeamEqualsProgress(Team team, Integer progressType) {
-        return team.getProgress().equals(progressType);
+    // 유저의 역할, 팀 진행상황 조건에 맞는 팀 유저 (팀 최근 수정순)
+    private List<TeamUser> findTeamUsersOfUser(Long userId, List<Integer> roles, TeamProgressType progress) {
+        return teamUserRepository.findAllWithTeamByUserIdAndRoleInAndTeamProgress(userId, roles, progress.getNumber());
     }
 
-    private List<TeamUser> findTeamMemberAndTeamUser(Long userId) {
-        return findTeamUserLessThan(userId, TEAM_MEMBER.getCode()).stream()
-                .sorted(Comparator.comparing(teamUser -> teamUser.getTeam().getUpdatedDate(), Comparator.reverseOrder()))
-                .collect(Collectors.toList());
+    private List<Team> findTeamsOfUser(Long userId, List<Integer> roles, TeamProgressType progress) {
+        return findTeamUsersOfUser(userId, roles, progress).stream()
+                .map(this::findTeamUserByTeam)
+                .toList();
+    }
+
+    // 팀 id -> 팀 유저 목록, 팀마다 팀원/지원자/팀장을 따로 조회하지 않고 한 번에
+    private Map<Long, List<TeamUser>> findTeamUsersGroupByTeam(List<Team> teams) {
+        if (teams.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> teamIds = teams.stream().map(Team::getId).toList();
+        return teamUserRepository.findAllWithUserByTeamIdIn(teamIds).stream()
+                .collect(Collectors.groupingBy(teamUser -> teamUser.getTeam().getId()));
+    }
+
+    // 이미 조회된 팀 유저 중 역할에 맞는 팀 유저 (팀 유저 최근 수정순)
+    private List<TeamUser> findTeamUsersByRole(List<TeamUser> teamUsers, Integer role) {
+        return teamUsers.stream()
+                .filter(teamUser -> teamUser.getRole().equals(role))
+                .sorted(Comparator.comparing(TeamUser::getUpdatedDate).reversed())
+                .toList();
+    }
+
+    private User findLoadedTeamLeader(List<TeamUser> teamUsers) {
+        return findUsersByRole(teamUsers, TEAM_LEADER.getCode()).stream().findFirst()
+                .orElseThrow(() -> new ForbiddenException(USER_NOT_TEAMLEADER));
+    }
+
+    private Set<Long> findReviewedTeamIds(Long userId, List<Team> teams) {
+        if (teams.isEmpty()) {
+            return Collections.emptySet();
+        }
+        List<Long> teamIds = teams.stream().map(Team::getId).toList();
+        return userReviewedTeamRepository.findAllByUserIdAndTeamIdIn(userId, teamIds).stream()
+                .map(UserReviewedTeam::getTeamId)
+                .collect(Collectors.toSet());
     }
 
     private Team findTeamUserByTeam(TeamUser teamUser) {
@@ -353,55 +460,68 @@ public class TeamService {
         return teamRepository.save(teamDto.toEntity());
     }
 
+    // 동시에 같은 공모전에 오픈/지원하는 경우 (user_id, contest_id) 유니크 제약으로 바로 실패
     private TeamUser saveTeamUser(Integer role, User user, Team team) {
-        return teamUserRepository.save(TeamUser.toEntity(role, team, user));
+        try {
+            return teamUserRepository.saveAndFlush(TeamUser.toEntity(role, team, user));
+        } catch (DataIntegrityViolationException e) {
+            if (role.equals(TEAM_LEADER.getCode()))
+                throw new ConflictException(ALREADY_USER_OPEN_TEAM);
+            throw new ConflictException(ALREADY_USER_APPLY_CONTEST);
+        }
     }
 
-    private void verifyAlreadyApplyThisTeam(Long userId, Long teamId) {
-        if (teamUserRepository.existsByUserIdAndTeamId(userId, teamId))
-            throw new ConflictException(ALREADY_USER_APPLY_TEAM);
+    // 인기 팀 정렬에 쓰이는 팀원 + 지원자 수 증감
+    private void updateApplicantCount(Long teamId, int delta) {
+        teamRepository.addApplicantCount(teamId, delta);
+        invalidateMainRecommendationAfterCommit();
     }
 
-    public List<Team> updateTeamProgressEnd() throws MessagingException, UnsupportedEncodingException {
-        List<Team> teams = getReviewDateAfterTeam(createTodayDateTimeEnd());
-        for (Team team : teams) {
-            team.updateProgress(PROGRESS_ENDED);
-            sendTeamEndReview(team);
-        }
-        return teams;
+    // 팀원 + 지원자 수, 승인된 팀원 수를 team_user 기준으로 다시 계산
+    public int syncTeamUserCounts() {
+        return teamRepository.syncApplicantCountAndFilledSeats();
     }
 
-    private List<TeamUser> sendTeamEndReview(Team team) throws MessagingException, UnsupportedEncodingException {
-        List<TeamUser> teamUsers = findTeamUserLeaderOrMember(team);
-        for (TeamUser teamUser : teamUsers) {
-            sendTeamReviewDateAfterEmail(teamUser);
-        }
-        return teamUsers;
+    // contest_id 컬럼 추가 전에 생성된 팀 유저 중 채우면 유니크 제약에 걸리는 (같은 공모전에 중복 소속된) 팀 유저
+    @Transactional(readOnly = true)
+    public List<TeamUserContestConflict> findTeamUserContestIdConflicts() {
+        return teamUserRepository.findContestIdConflicts();
     }
 
-    private void sendTeamReviewDateAfterEmail(TeamUser teamUser) throws MessagingException, UnsupportedEncodingException {
-        User user = teamUser.getUser();
-        Team team = findTeamUserByTeam(teamUser);
-        Contest contest = findContest(team.getContestId());
-        emailService.sendEndTeamEmail(user.getEmail(), contest.getTitle());
+    // contest_id 컬럼 추가 전에 생성된 팀 유저 보정, 충돌하는 팀 유저는 건너뜀
+    public int syncTeamUserContestId() {
+        return teamUserRepository.syncContestId();
     }
 
-    private List<TeamUser> findTeamUserLeaderOrMember(Team team) {
-        return teamUserRepository.findAllByTeamIdAndRoleLessThanEqual(team.getId(), TEAM_MEMBER.getCode());
+    private void verifyAlreadyApplyThisTeam(Long userId, Long teamId) {
+        if (teamUserRepository.existsByUserIdAndTeamId(userId, teamId))
+            throw new ConflictException(ALREADY_USER_APPLY_TEAM);
     }
 
-    private List<Team> getReviewDateAfterTeam(Date date) {
-        return teamRepository.findAllByReviewDateLessThanAndProgress(date, PROCEEDING.getNumber());
+    // 오늘까지가 회고 날짜인 팀의 기준 시각, 배치 시작 시 한 번 계산
+    public Date getTeamEndReviewDate() {
+        return createTodayDateTimeEnd();
     }
 
-    private List<TeamUser> findTeamUserIApplied(Long userId, Integer role) {
-        return teamUserRepository.findAllByUserIdAndRoleGreaterThanEqual(userId, role).stream()
-                .sorted(Comparator.comparing(teamUser -> teamUser.getTeam().getUpdatedDate(), Comparator.reverseOrder()))
-                .collect(Collectors.toList()); //>=
+    // 회고 날짜가 지난 팀을 id 순으로 chunkSize 만큼 종료, 청크마다 별도 트랜잭션
+    public List<Long> updateTeamProgressEndChunk(Date reviewDate, Long lastTeamId, int chunkSize) {
+        List<Long> teamIds = teamRepository.findIdsByReviewDateBeforeAndProgressAfterId(reviewDate, PROCEEDING.getNumber(), lastTeamId, PageRequest.of(0, chunkSize));
+        if (!teamIds.isEmpty()) {
+            teamRepository.updateProgressByIdIn(teamIds, PROCEEDING.getNumber(), PROGRESS_ENDED.getNumber(), LocalDateTime.now());
+        }
+        return teamIds;
     }
 
-    private List<TeamUser> findTeamUserLessThan(Long userId, Integer role) {
-        return teamUserRepository.findAllByUserIdAndRoleLessThanEqual(userId, role); //<=
+    // 청크 커밋 후 종료된 팀의 팀장, 팀원에게 리뷰 작성 안내 메일 (팀 유저, 공모전 한 번씩 조회)
+    @Transactional(readOnly = true)
+    public int sendTeamEndEmails(List<Long> teamIds) {
+        List<TeamUser> teamUsers = teamUserRepository.findAllWithUserAndTeamByTeamIdInAndRoleLessThanEqual(teamIds, TEAM_MEMBER.getCode());
+        Map<String, ContestSummary> contests = loadContestsOfTeams(teamUsers.stream().map(this::findTeamUserByTeam).distinct().toList());
+        List<EndTeamEmailDto> endTeamEmails = teamUsers.stream()
+                .map(teamUser -> EndTeamEmailDto.of(teamUser.getUser().getEmail(), getLoadedContest(contests, findTeamUserByTeam(teamUser).getContestId()).getTitle()))
+                .toList();
+        emailService.sendEndTeamEmails(endTeamEmails);
+        return endTeamEmails.size();
     }
 
     private List<TeamUser> findTeamUserByTeamIdAndRole(Long teamId, Integer role) {
@@ -414,30 +534,10 @@ public class TeamService {
         return teamUsers.stream().map(v -> v.getUser()).collect(Collectors.toList());
     }
 
-    private List<TeamUser> findTeamUserByUserIdAndRole(Long userId, Integer role) {
-        return teamUserRepository.findAllByUserIdAndRole(userId, role).stream()
-                .sorted(Comparator.comparing(teamUser -> teamUser.getTeam().getUpdatedDate(), Comparator.reverseOrder()))
-                .collect(Collectors.toList());
-    }
-
-
-    private Query createFindContestByIdQuery(String contestId) {
-        return new Query(Criteria.where("_id").is(new ObjectId(contestId)));
-    }
 
+    // 공모전 team_num 은 커밋 후 outbox 를 통해 반영
     private void contestTeamCountDecrease(Team team) {
-        Query query = createFindContestByIdQuery(team.getContestId());
-        Update update = new Update();
-        decreaseContestRecruitTeamNumberInUpdate(update);
-        mongoTemplate.updateMulti(query, update, Contest.class);
-    }
-
-    private void increaseContestRecruitTeamNumberInUpdate(Update update) {
-        update.inc("team_num", 1);
-    }
-
-    private void decreaseContestRecruitTeamNumberInUpdate(Update update) {
-        update.inc("team_num", -1);
+        contestTeamNumService.recordDelta(team.getContestId(), -1);
     }
 
     private Date createTodayDateTimeEnd() {
@@ -462,10 +562,6 @@ public class TeamService {
         }
     }
 
-    private Boolean checkUserReviewThisTeam(Long userId, Long teamId) {
-        return userReviewedTeamRepository.existsByUserIdAndTeamId(userId, teamId);
-    }
-
     public ReviewPageUserResponseDto getReviewPageUser(Long userId, Long teamId) {
         List<TeamUser> teamUsersExceptMe = findTeamUsersByTeamIdExceptMe(teamId, TEAM_MEMBER.getCode(), userId);
 
@@ -0,0 +1,45 @@
+package com.kusithm.meetupd.domain.team.util;
+
+import com.kusithm.meetupd.common.error.BadRequestException;
+import com.kusithm.meetupd.domain.team.entity.Team;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.kusithm.meetupd.common.error.ErrorCode.INVALID_PAGE_CURSOR;
+
+// 팀 목록 커서 페이징용 커서, 마지막으로 본 팀의 (createdDate, teamId)를 base64로 감싼 값
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TeamCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdDate;
+
+    private final Long teamId;
+
+    public static TeamCursor of(Team team) {
+        return new TeamCursor(team.getCreatedDate(), team.getId());
+    }
+
+    public static TeamCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            return new TeamCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException(INVALID_PAGE_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String value = createdDate + DELIMITER + teamId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,151 @@
+package com.kusithm.meetupd.common.mongo;
+
+import com.mongodb.MongoWriteException;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Date;
+import java.util.List;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gte;
+import static com.mongodb.client.model.Filters.lt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 자주 쓰는 쿼리가 모두 인덱스를 타는지 실제 mongod 의 explain 결과로 확인 (docker 가 없으면 건너뜀)
+@DataMongoTest
+@Import(MongoIndexBootstrapper.class)
+@Testcontainers(disabledWithoutDocker = true)
+class MongoIndexBootstrapperTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:6.0");
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> MONGO.getReplicaSetUrl("wanteam-db"));
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexBootstrapper mongoIndexBootstrapper;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getDb().drop();
+        mongoIndexBootstrapper.ensureIndexes();
+        // 빈 컬렉션은 COLLSCAN 대신 EOF 로 계획되므로 문서를 하나씩 넣어 둠
+        Date now = new Date();
+        mongoTemplate.getCollection("recommendation").insertOne(new Document("user_id", 1L));
+        mongoTemplate.getCollection("not_upload_review").insertOne(new Document("user_id", 1L).append("team_id", 1L));
+        mongoTemplate.getCollection("non_user_recommend").insertOne(new Document("user_id", 1L));
+        mongoTemplate.getCollection("review_comment_bucket").insertOne(new Document("user_id", 1L)
+                .append("closed", false)
+                .append("count", 1)
+                .append("comments", List.of(new Document("comment", "한줄평"))));
+        mongoTemplate.getCollection("contest").insertOne(new Document("title", "공모전")
+                .append("company", "주최사")
+                .append("types", List.of(1, 3))
+                .append("recruit_start", now)
+                .append("recruit_end", now)
+                .append("team_num", 0));
+    }
+
+    @Test
+    void 리뷰_조회와_증가는_user_id_인덱스를_사용한다() {
+        assertNoCollectionScan("recommendation", eq("user_id", 1L));
+    }
+
+    @Test
+    void 작성_대기_리뷰_조회는_user_id_team_id_인덱스를_사용한다() {
+        assertNoCollectionScan("not_upload_review", and(eq("user_id", 1L), eq("team_id", 1L)));
+        assertNoCollectionScan("not_upload_review", eq("user_id", 1L));
+    }
+
+    @Test
+    void 비회원_리뷰_조회는_user_id_인덱스를_사용한다() {
+        assertNoCollectionScan("non_user_recommend", eq("user_id", 1L));
+    }
+
+    @Test
+    void 한줄평_버킷_조회와_추가는_user_id_인덱스를_사용한다() {
+        assertNoCollectionScan("review_comment_bucket", eq("user_id", 1L));
+        assertNoCollectionScan("review_comment_bucket", and(eq("user_id", 1L), lt("_id", new ObjectId())));
+        assertNoCollectionScan("review_comment_bucket", and(eq("user_id", 1L), eq("closed", false), lt("count", 50)));
+    }
+
+    @Test
+    void 유저당_열린_한줄평_버킷은_하나뿐이다() {
+        assertThatThrownBy(() -> mongoTemplate.getCollection("review_comment_bucket").insertOne(createBucket(1L, false, 1)))
+                .isInstanceOf(MongoWriteException.class);
+        mongoTemplate.getCollection("review_comment_bucket").insertOne(createBucket(1L, true, 50));
+    }
+
+    @Test
+    void 인덱스_생성_전_가득_찬_버킷과_중복으로_열린_버킷을_닫는다() {
+        mongoTemplate.getDb().drop();
+        mongoTemplate.getCollection("review_comment_bucket").insertMany(List.of(
+                createBucket(1L, false, 50),
+                createBucket(2L, false, 3),
+                createBucket(2L, false, 5)));
+
+        mongoIndexBootstrapper.ensureIndexes();
+
+        assertThat(mongoTemplate.getCollection("review_comment_bucket").countDocuments(eq("closed", false))).isEqualTo(1);
+        assertThat(mongoTemplate.getCollection("review_comment_bucket").find(eq("closed", false)).first().getInteger("count")).isEqualTo(5);
+    }
+
+    @Test
+    void 공모전_마감일_분야_자연키_조회는_인덱스를_사용한다() {
+        Date now = new Date();
+        assertNoCollectionScan("contest", gte("recruit_end", now));
+        assertNoCollectionScan("contest", and(gte("recruit_end", now), lt("recruit_end", new Date(now.getTime() + 86_400_000L))));
+        assertNoCollectionScan("contest", and(eq("types", 3), gte("recruit_end", now)));
+        assertNoCollectionScan("contest", and(eq("title", "공모전"), eq("company", "주최사"), eq("recruit_start", now)));
+    }
+
+    private Document createBucket(Long userId, boolean closed, int count) {
+        return new Document("_id", new ObjectId())
+                .append("user_id", userId)
+                .append("closed", closed)
+                .append("count", count);
+    }
+
+    private void assertNoCollectionScan(String collectionName, Bson filter) {
+        Document explain = mongoTemplate.getCollection(collectionName).find(filter).explain();
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        assertThat(containsCollectionScan(winningPlan))
+                .as("%s %s -> %s", collectionName, filter, winningPlan.toJson())
+                .isFalse();
+    }
+
+    // 실행 계획은 inputStage / inputStages / queryPlan 으로 중첩되므로 전체를 탐색
+    private boolean containsCollectionScan(Object plan) {
+        if (plan instanceof Document document) {
+            if ("COLLSCAN".equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(this::containsCollectionScan);
+        }
+        if (plan instanceof List<?> stages) {
+            return stages.stream().anyMatch(this::containsCollectionScan);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package com.kusithm.meetupd.domain.team.mysql;
+
+import com.kusithm.meetupd.domain.team.dto.response.RecruitingContestTeamResponseDto;
+import com.kusithm.meetupd.domain.team.entity.Team;
+import com.kusithm.meetupd.domain.team.entity.TeamLocation;
+import com.kusithm.meetupd.domain.team.entity.TeamUser;
+import com.kusithm.meetupd.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static com.kusithm.meetupd.domain.team.entity.TeamProgressType.RECRUITING;
+import static com.kusithm.meetupd.domain.team.entity.TeamUserRoleType.TEAM_LEADER;
+import static com.kusithm.meetupd.domain.team.entity.TeamUserRoleType.TEAM_MEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TeamRepositoryTest {
+
+    private static final String CONTEST_ID = "6548a1d2e4b0a1b2c3d4e5f6";
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long kakaoId = 0;
+
+    @Test
+    void 공모전_모집중인_팀_목록은_팀_수와_무관하게_고정된_쿼리로_조회한다() {
+        for (int i = 0; i < 5; i++) {
+            saveTeam(3);
+        }
+        em.flush();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Team> teams = teamRepository.findAllWithTeamUsersByContestIdAndProgress(CONTEST_ID, RECRUITING.getNumber());
+        List<RecruitingContestTeamResponseDto> response = teams.stream()
+                .map(team -> RecruitingContestTeamResponseDto.of(team, findUsers(team, TEAM_LEADER.getCode()).get(0), findUsers(team, TEAM_MEMBER.getCode())))
+                .toList();
+
+        assertThat(response).hasSize(5);
+        assertThat(response).allSatisfy(dto -> assertThat(dto.getTeamMemeberInfos()).hasSize(3));
+        // 팀 + 팀원 + 유저 fetch join 1회, 유저 직무/전공 batch 조회 각 1회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private List<User> findUsers(Team team, Integer role) {
+        return team.getTeamUsers().stream()
+                .filter(teamUser -> teamUser.getRole().equals(role))
+                .map(TeamUser::getUser)
+                .toList();
+    }
+
+    private void saveTeam(int memberCount) {
+        Team team = Team.builder()
+                .headCount(memberCount + 1)
+                .reviewDate(new Date())
+                .chatLink("https://open.kakao.com/test")
+                .leaderMessage("같이 해요")
+                .progress(RECRUITING.getNumber())
+                .notice("모집 공고")
+                .contestId(CONTEST_ID)
+                .build();
+        TeamLocation.createLocation(1).changeTeam(team);
+        team.setCreatedDate(LocalDateTime.now());
+        em.persist(team);
+
+        em.persist(TeamUser.toEntity(TEAM_LEADER.getCode(), team, saveUser()));
+        for (int i = 0; i < memberCount; i++) {
+            em.persist(TeamUser.toEntity(TEAM_MEMBER.getCode(), team, saveUser()));
+        }
+    }
+
+    private User saveUser() {
+        kakaoId++;
+        User user = User.createRegisterUser("user" + kakaoId, 1, "경영학", "기획", "안녕하세요", kakaoId, "user" + kakaoId + "@wanteam.com", "image.png");
+        user.setUpdatedDate(LocalDateTime.now());
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,189 @@
+package com.kusithm.meetupd.domain.team.service;
+
+import com.kusithm.meetupd.common.error.ConflictException;
+import com.kusithm.meetupd.common.error.ForbiddenException;
+import com.kusithm.meetupd.domain.contest.entity.Contest;
+import com.kusithm.meetupd.domain.contest.entity.ContestTeamNumOutbox;
+import com.kusithm.meetupd.domain.contest.mongo.ContestRepository;
+import com.kusithm.meetupd.domain.contest.mysql.ContestTeamNumOutboxRepository;
+import com.kusithm.meetupd.domain.contest.service.ContestBatchLoader;
+import com.kusithm.meetupd.domain.contest.service.ContestService;
+import com.kusithm.meetupd.domain.contest.service.ContestTeamNumService;
+import com.kusithm.meetupd.domain.email.service.EmailService;
+import com.kusithm.meetupd.domain.team.dto.request.RequestChangeRoleDto;
+import com.kusithm.meetupd.domain.team.entity.Team;
+import com.kusithm.meetupd.domain.team.entity.TeamLocation;
+import com.kusithm.meetupd.domain.team.entity.TeamUser;
+import com.kusithm.meetupd.domain.team.mysql.TeamRepository;
+import com.kusithm.meetupd.domain.team.mysql.TeamUserRepository;
+import com.kusithm.meetupd.domain.user.entity.User;
+import com.kusithm.meetupd.domain.user.mysql.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.kusithm.meetupd.common.error.ErrorCode.TEAM_ALREADY_FULL;
+import static com.kusithm.meetupd.common.error.ErrorCode.TEAM_PROGRESS_NOT_RECRUITING;
+import static com.kusithm.meetupd.domain.team.entity.TeamProgressType.PROCEEDING;
+import static com.kusithm.meetupd.domain.team.entity.TeamProgressType.RECRUITING;
+import static com.kusithm.meetupd.domain.team.entity.TeamUserRoleType.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// TeamService.changeRole 을 동시에 호출, 스레드마다 서비스 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 사용 x
+// Mongo/메일/캐시 쪽 의존성만 mock
+@DataJpaTest
+@Import({TeamService.class, ContestTeamNumService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TeamSeatReservationTest {
+
+    private static final String CONTEST_ID = "6548a1d2e4b0a1b2c3d4e5f7";
+    private static final int HEAD_COUNT = 3;
+    private static final int VOLUNTEER_COUNT = 10;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamUserRepository teamUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContestTeamNumOutboxRepository contestTeamNumOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private ContestRepository contestRepository;
+
+    @MockBean
+    private ContestBatchLoader contestBatchLoader;
+
+    @MockBean
+    private ContestService contestService;
+
+    @MockBean
+    private EmailService emailService;
+
+    @MockBean
+    private MongoTemplate mongoTemplate;
+
+    private long kakaoId = 1000;
+
+    @Test
+    void 지원자를_동시에_승인해도_모집_인원을_넘지_않고_한_번만_마감된다() throws Exception {
+        Contest contest = mock(Contest.class);
+        given(contest.getTitle()).willReturn("공모전");
+        given(contestRepository.findContestById(any())).willReturn(Optional.of(contest));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        User leader = transactionTemplate.execute(status -> saveUser());
+        Team team = transactionTemplate.execute(status -> saveTeam(leader));
+        List<Long> volunteerUserIds = transactionTemplate.execute(status -> saveVolunteers(team));
+
+        AtomicInteger approvedCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(VOLUNTEER_COUNT);
+        for (Long volunteerUserId : volunteerUserIds) {
+            executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    teamService.changeRole(leader.getId(), createApproveRequest(team.getId(), volunteerUserId));
+                    approvedCount.incrementAndGet();
+                } catch (ConflictException | ForbiddenException e) {
+                    // 자리가 없으면 TEAM_ALREADY_FULL, 이미 마감된 뒤 들어온 요청은 TEAM_PROGRESS_NOT_RECRUITING
+                    assertThat(e.getError()).isIn(TEAM_ALREADY_FULL, TEAM_PROGRESS_NOT_RECRUITING);
+                    rejectedCount.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        startLatch.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        Team result = teamRepository.findById(team.getId()).orElseThrow();
+        assertThat(approvedCount.get()).isEqualTo(HEAD_COUNT);
+        assertThat(rejectedCount.get()).isEqualTo(VOLUNTEER_COUNT - HEAD_COUNT);
+        assertThat(result.getFilledSeats()).isEqualTo(HEAD_COUNT);
+        assertThat(result.getProgress()).isEqualTo(PROCEEDING.getNumber());
+        assertThat(teamUserRepository.findAllByTeamIdAndRole(team.getId(), TEAM_MEMBER.getCode())).hasSize(HEAD_COUNT);
+        // 자리가 없어 실패한 승인은 역할 변경까지 롤백되어 지원자로 남음
+        assertThat(teamUserRepository.findAllByTeamIdAndRole(team.getId(), VOLUNTEER.getCode())).hasSize(VOLUNTEER_COUNT - HEAD_COUNT);
+        // 마감은 한 번만 공모전 team_num 감소로 기록
+        List<ContestTeamNumOutbox> outboxes = contestTeamNumOutboxRepository.findAll();
+        assertThat(outboxes).hasSize(1);
+        assertThat(outboxes.get(0).getContestId()).isEqualTo(CONTEST_ID);
+        assertThat(outboxes.get(0).getDelta()).isEqualTo(-1);
+        verify(emailService, times(HEAD_COUNT)).sendJoinTeamEmail(anyString(), anyString(), any());
+    }
+
+    private RequestChangeRoleDto createApproveRequest(Long teamId, Long memberId) {
+        RequestChangeRoleDto request = new RequestChangeRoleDto();
+        ReflectionTestUtils.setField(request, "teamId", teamId);
+        ReflectionTestUtils.setField(request, "memberId", memberId);
+        ReflectionTestUtils.setField(request, "role", TEAM_MEMBER.getCode());
+        return request;
+    }
+
+    private Team saveTeam(User leader) {
+        Team team = Team.builder()
+                .headCount(HEAD_COUNT)
+                .reviewDate(new Date())
+                .chatLink("https://open.kakao.com/test")
+                .leaderMessage("같이 해요")
+                .progress(RECRUITING.getNumber())
+                .notice("모집 공고")
+                .contestId(CONTEST_ID)
+                .build();
+        TeamLocation.createLocation(1).changeTeam(team);
+        teamRepository.save(team);
+        teamUserRepository.save(TeamUser.toEntity(TEAM_LEADER.getCode(), team, leader));
+        return team;
+    }
+
+    private List<Long> saveVolunteers(Team team) {
+        List<Long> volunteerUserIds = new ArrayList<>();
+        for (int i = 0; i < VOLUNTEER_COUNT; i++) {
+            User volunteer = saveUser();
+            teamUserRepository.save(TeamUser.toEntity(VOLUNTEER.getCode(), team, volunteer));
+            volunteerUserIds.add(volunteer.getId());
+        }
+        return volunteerUserIds;
+    }
+
+    private User saveUser() {
+        kakaoId++;
+        return userRepository.save(User.createRegisterUser("user" + kakaoId, 1, "경영학", "기획", "안녕하세요", kakaoId, "user" + kakaoId + "@wanteam.com", "image.png"));
+    }
+}